@@ -0,0 +1,89 @@
+package com.ead.gearup.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Compares two JMH JSON result files (-rf json), benchmark by benchmark and
+ * param by param, and exits with 1 if any benchmark got worse by more than the
+ * threshold percentage. A change that is within the two runs' combined error
+ * margins is reported but never counted as a regression.
+ *
+ * Run through the benchmark profile:
+ * mvn -Pbenchmark test-compile exec:exec@compare [-Djmh.baseline=...] [-Djmh.result=...] [-Djmh.threshold=10]
+ */
+public final class BenchmarkComparison {
+
+    private BenchmarkComparison() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: BenchmarkComparison <baseline.json> <result.json> [threshold-percent]");
+            System.exit(2);
+        }
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) : 10.0;
+
+        Map<String, JsonNode> baseline = load(new File(args[0]));
+        Map<String, JsonNode> current = load(new File(args[1]));
+
+        int regressions = 0;
+        System.out.printf("%-70s %14s %14s %9s  %s%n", "Benchmark", "Baseline", "Current", "Change", "Unit");
+        for (Map.Entry<String, JsonNode> entry : current.entrySet()) {
+            JsonNode now = entry.getValue();
+            JsonNode before = baseline.get(entry.getKey());
+            String unit = now.path("primaryMetric").path("scoreUnit").asText();
+            double score = now.path("primaryMetric").path("score").asDouble();
+            if (before == null) {
+                System.out.printf("%-70s %14s %14.3f %9s  %s%n", entry.getKey(), "-", score, "new", unit);
+                continue;
+            }
+
+            double baseScore = before.path("primaryMetric").path("score").asDouble();
+            double change = (score - baseScore) / baseScore * 100;
+            // Throughput modes: higher is better; time modes: lower is better
+            boolean higherIsBetter = "thrpt".equals(now.path("mode").asText());
+            double worse = higherIsBetter ? -change : change;
+            double noise = error(before) + error(now);
+            boolean regression = worse > threshold && Math.abs(score - baseScore) > noise;
+            if (regression) {
+                regressions++;
+            }
+            System.out.printf("%-70s %14.3f %14.3f %+8.1f%%  %s%s%n", entry.getKey(), baseScore, score, change, unit,
+                    regression ? "  REGRESSION" : "");
+        }
+        baseline.keySet().stream()
+                .filter(key -> !current.containsKey(key))
+                .forEach(key -> System.out.printf("%-70s %14s%n", key, "not run"));
+
+        if (regressions > 0) {
+            System.out.printf("%d benchmark(s) regressed by more than %.1f%%%n", regressions, threshold);
+            System.exit(1);
+        }
+        System.out.printf("No regressions above %.1f%%%n", threshold);
+    }
+
+    // Benchmark name plus its params, e.g. EmailRenderBenchmark.shell{thymeleafCache=true}
+    private static Map<String, JsonNode> load(File file) throws IOException {
+        Map<String, JsonNode> results = new LinkedHashMap<>();
+        for (JsonNode result : new ObjectMapper().readTree(file)) {
+            String name = result.path("benchmark").asText().replace("com.ead.gearup.benchmark.", "");
+            Map<String, String> params = new TreeMap<>();
+            result.path("params").fields().forEachRemaining(param -> params.put(param.getKey(),
+                    param.getValue().asText()));
+            results.put(params.isEmpty() ? name : name + params, result);
+        }
+        return results;
+    }
+
+    private static double error(JsonNode result) {
+        double error = result.path("primaryMetric").path("scoreError").asDouble();
+        return Double.isNaN(error) ? 0 : error;
+    }
+}
@@ -0,0 +1,93 @@
+package com.ead.gearup.benchmark;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.ead.gearup.dto.appointment.AppointmentResponseDTO;
+import com.ead.gearup.dto.customer.CustomerResponseDTO;
+import com.ead.gearup.dto.vehicle.VehicleResponseDTO;
+import com.ead.gearup.enums.UserRole;
+import com.ead.gearup.model.Appointment;
+import com.ead.gearup.model.Customer;
+import com.ead.gearup.model.Employee;
+import com.ead.gearup.model.Task;
+import com.ead.gearup.model.User;
+import com.ead.gearup.model.Vehicle;
+import com.ead.gearup.util.AppointmentDTOConverter;
+import com.ead.gearup.util.CustomerMapper;
+import com.ead.gearup.util.VehicleDTOConverter;
+
+/**
+ * Entity to response DTO conversions on the read paths: one appointment (with
+ * its task ids), one vehicle, one customer through the MapStruct mapper.
+ * Repositories are not needed for these conversions and are left null.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConverterBenchmark {
+
+    private AppointmentDTOConverter appointmentConverter;
+    private VehicleDTOConverter vehicleConverter;
+    private CustomerMapper customerMapper;
+
+    private Appointment appointment;
+    private Vehicle vehicle;
+    private Customer customer;
+
+    @Setup
+    public void setUp() {
+        appointmentConverter = new AppointmentDTOConverter(null, null);
+        vehicleConverter = new VehicleDTOConverter();
+        customerMapper = Mappers.getMapper(CustomerMapper.class);
+
+        User user = User.builder().userId(1L).email("bench@gearup.com").name("Bench").role(UserRole.CUSTOMER)
+                .build();
+        customer = Customer.builder().customerId(1L).user(user).phoneNumber("0771234567").build();
+        vehicle = Vehicle.builder().vehicleId(1L).vin("JT2BF22K1W0123456").licensePlate("CAB-1234")
+                .make("Toyota").model("Axio").year(2018).customer(customer).build();
+        Employee employee = Employee.builder().employeeId(1L).specialization("Engine").build();
+
+        List<Task> tasks = new ArrayList<>();
+        appointment = Appointment.builder().appointmentId(1L).date(LocalDate.of(2030, 1, 7))
+                .startTime(LocalTime.of(9, 0)).endTime(LocalTime.of(10, 30)).notes("Brake noise")
+                .customer(customer).vehicle(vehicle).employee(employee).tasks(tasks).build();
+        for (long i = 1; i <= 5; i++) {
+            tasks.add(Task.builder().taskId(i).name("Task " + i).description("Inspect").estimatedHours(1)
+                    .cost(25.0).appointment(appointment).build());
+        }
+    }
+
+    @Benchmark
+    public AppointmentResponseDTO appointmentToDto() {
+        return appointmentConverter.convertToResponseDto(appointment);
+    }
+
+    @Benchmark
+    public VehicleResponseDTO vehicleToDto() {
+        return vehicleConverter.convertToResponseDto(vehicle);
+    }
+
+    @Benchmark
+    public CustomerResponseDTO customerToDto() {
+        return customerMapper.toDto(customer);
+    }
+}
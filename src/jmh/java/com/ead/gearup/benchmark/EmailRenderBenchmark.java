@@ -0,0 +1,84 @@
+package com.ead.gearup.benchmark;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import com.ead.gearup.service.email.EmailTemplates;
+
+/**
+ * Verification email body render throughput (renders per second).
+ * "thymeleaf" is the per-message Thymeleaf process the old EmailService did,
+ * with the template cache on or off (devtools turns it off); "shell" is the
+ * precompiled path EmailService uses now.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EmailRenderBenchmark {
+
+    private static final int BATCH = 100;
+
+    @Param({ "true", "false" })
+    public boolean thymeleafCache;
+
+    private EmailTemplates emailTemplates;
+    private Map<String, String>[] variables;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        ClassLoaderTemplateResolver resolver = new ClassLoaderTemplateResolver();
+        resolver.setPrefix("templates/");
+        resolver.setCacheable(thymeleafCache);
+        SpringTemplateEngine templateEngine = new SpringTemplateEngine();
+        templateEngine.setTemplateResolver(resolver);
+
+        emailTemplates = new EmailTemplates(templateEngine);
+        ReflectionTestUtils.invokeMethod(emailTemplates, "init");
+
+        variables = new Map[BATCH];
+        for (int i = 0; i < BATCH; i++) {
+            variables[i] = Map.of("name", "Customer " + i,
+                    "verificationUrl", "https://gearup.example/verify-email?token=eyJhbGciOiJIUzI1NiJ9." + i);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public int thymeleaf() {
+        int length = 0;
+        for (Map<String, String> v : variables) {
+            length += emailTemplates.renderWithThymeleaf(EmailTemplates.VERIFICATION, v).length();
+        }
+        return length;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public int shell() {
+        int length = 0;
+        for (Map<String, String> v : variables) {
+            length += emailTemplates.render(EmailTemplates.VERIFICATION, v).length();
+        }
+        return length;
+    }
+}
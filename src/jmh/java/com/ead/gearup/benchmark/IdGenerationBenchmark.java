@@ -0,0 +1,136 @@
+package com.ead.gearup.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+
+/**
+ * 10k inserts in one transaction with batch_size 50 and ordered inserts.
+ * "identity" is the old IDENTITY mapping, which sends one INSERT per row because
+ * the id is only known after it executes. "pooled" is the sequence mapping the
+ * entities use now, which batches inserts. It runs on in-memory H2, so the
+ * saved network round trips are not visible here; the gap on PostgreSQL is wider.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IdGenerationBenchmark {
+
+    private static final int ROWS = 10_000;
+    private static final int BATCH_SIZE = 50;
+
+    private SessionFactory sessionFactory;
+
+    @Entity(name = "IdentityRow")
+    @Table(name = "identity_row")
+    public static class IdentityRow {
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        private Long id;
+
+        private String name;
+
+        public IdentityRow() {
+        }
+
+        IdentityRow(String name) {
+            this.name = name;
+        }
+    }
+
+    @Entity(name = "PooledRow")
+    @Table(name = "pooled_row")
+    public static class PooledRow {
+        @Id
+        @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "pooled_row_seq")
+        @SequenceGenerator(name = "pooled_row_seq", sequenceName = "pooled_row_seq", allocationSize = 50)
+        private Long id;
+
+        private String name;
+
+        public PooledRow() {
+        }
+
+        PooledRow(String name) {
+            this.name = name;
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        sessionFactory = new Configuration()
+                .addAnnotatedClass(IdentityRow.class)
+                .addAnnotatedClass(PooledRow.class)
+                .setProperty(AvailableSettings.JAKARTA_JDBC_URL, "jdbc:h2:mem:idbench;DB_CLOSE_DELAY=-1")
+                .setProperty(AvailableSettings.JAKARTA_JDBC_USER, "sa")
+                .setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                .setProperty(AvailableSettings.STATEMENT_BATCH_SIZE, String.valueOf(BATCH_SIZE))
+                .setProperty(AvailableSettings.ORDER_INSERTS, "true")
+                .buildSessionFactory();
+    }
+
+    @Setup(Level.Invocation)
+    public void clearTables() {
+        sessionFactory.inTransaction(session -> {
+            session.createMutationQuery("delete from IdentityRow").executeUpdate();
+            session.createMutationQuery("delete from PooledRow").executeUpdate();
+        });
+    }
+
+    @TearDown
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public void identity() {
+        sessionFactory.inTransaction(session -> {
+            for (int i = 0; i < ROWS; i++) {
+                session.persist(new IdentityRow("row-" + i));
+                flushEveryBatch(session, i);
+            }
+        });
+    }
+
+    @Benchmark
+    public void pooled() {
+        sessionFactory.inTransaction(session -> {
+            for (int i = 0; i < ROWS; i++) {
+                session.persist(new PooledRow("row-" + i));
+                flushEveryBatch(session, i);
+            }
+        });
+    }
+
+    private static void flushEveryBatch(Session session, int i) {
+        if ((i + 1) % BATCH_SIZE == 0) {
+            session.flush();
+            session.clear();
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.ead.gearup.benchmark;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.ead.gearup.dto.appointment.AppointmentResponseDTO;
+import com.ead.gearup.dto.response.ApiResponseDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * ApiResponseDTO to JSON, as the controllers' responses are written: one
+ * appointment, and a listing page of 50. The ObjectMapper is built the way
+ * Spring Boot builds the application's (no custom Jackson configuration exists).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonSerializationBenchmark {
+
+    private static final int PAGE_SIZE = 50;
+
+    private ObjectMapper objectMapper;
+    private ApiResponseDTO<AppointmentResponseDTO> single;
+    private ApiResponseDTO<List<AppointmentResponseDTO>> page;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS,
+                        SerializationFeature.WRITE_DURATIONS_AS_TIMESTAMPS)
+                .build();
+
+        List<AppointmentResponseDTO> appointments = new ArrayList<>();
+        for (long i = 1; i <= PAGE_SIZE; i++) {
+            appointments.add(new AppointmentResponseDTO(i, LocalDate.of(2030, 1, 7), "CONFIRMED", "Brake noise",
+                    LocalTime.of(9, 0), LocalTime.of(10, 30), i, i, 3L, List.of(i * 10, i * 10 + 1)));
+        }
+        single = response(appointments.get(0));
+        page = response(appointments);
+    }
+
+    private static <T> ApiResponseDTO<T> response(T data) {
+        return ApiResponseDTO.<T>builder()
+                .status("success")
+                .message("Appointments retrieved successfully")
+                .data(data)
+                .timestamp(Instant.parse("2030-01-07T09:00:00Z"))
+                .path("/api/v1/appointments")
+                .build();
+    }
+
+    @Benchmark
+    public byte[] singleAppointment() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(single);
+    }
+
+    @Benchmark
+    public byte[] appointmentPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+}
@@ -0,0 +1,100 @@
+package com.ead.gearup.benchmark;
+
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import javax.crypto.SecretKey;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.ead.gearup.enums.UserRole;
+import com.ead.gearup.model.User;
+import com.ead.gearup.model.UserPrinciple;
+import com.ead.gearup.service.auth.JwtService;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+
+/**
+ * Per-request cost of access token validation as done by JwtAuthenticationFilter.
+ * "legacy" reproduces the old path (key + parser rebuilt per call, token parsed
+ * three times); "current" is the single-parse path on the cached parser.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtServiceBenchmark {
+
+    private String secret;
+    private JwtService jwtService;
+    private UserDetails userDetails;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        secret = Base64.getEncoder().encodeToString("benchmark-secret-benchmark-secret-0123456789".getBytes());
+
+        jwtService = new JwtService();
+        ReflectionTestUtils.setField(jwtService, "secretKey", secret);
+        ReflectionTestUtils.setField(jwtService, "jwtExpirationMillis", 3_600_000L);
+        ReflectionTestUtils.setField(jwtService, "refreshTokenDurationMs", 86_400_000L);
+        ReflectionTestUtils.setField(jwtService, "emailVerificationTokenDurationMs", 300_000L);
+        ReflectionTestUtils.invokeMethod(jwtService, "init");
+
+        User user = User.builder()
+                .userId(1L)
+                .email("bench@gearup.com")
+                .name("Bench")
+                .role(UserRole.CUSTOMER)
+                .isVerified(true)
+                .build();
+        userDetails = new UserPrinciple(user);
+        accessToken = jwtService.generateAccessToken(userDetails);
+    }
+
+    @Benchmark
+    public boolean legacyValidateAccessToken() {
+        String username = legacyClaims(accessToken).getSubject();
+        String type = legacyClaims(accessToken).get("token_type", String.class);
+        Date expiration = legacyClaims(accessToken).getExpiration();
+        return username.equals(userDetails.getUsername())
+                && !expiration.before(new Date())
+                && "access".equals(type);
+    }
+
+    @Benchmark
+    public boolean currentValidateAccessToken() {
+        return jwtService.validateAccessToken(jwtService.verify(accessToken), userDetails);
+    }
+
+    @Benchmark
+    public String generateAccessToken() {
+        return jwtService.generateAccessToken(userDetails);
+    }
+
+    private Claims legacyClaims(String token) {
+        SecretKey key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret));
+        return Jwts.parser()
+                .verifyWith(key)
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+}
@@ -0,0 +1,64 @@
+package com.ead.gearup.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.ead.gearup.enums.UserRole;
+import com.ead.gearup.model.User;
+import com.ead.gearup.model.UserPrinciple;
+import com.ead.gearup.service.auth.RoleBasedAccessService;
+
+/**
+ * RoleBasedAccessService.hasAnyRole as called by the @RequiresRole aspect on
+ * every guarded endpoint, for a role that is allowed and one that is not.
+ * Thread-scoped because the security context is a thread local.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RoleBasedAccessBenchmark {
+
+    private RoleBasedAccessService roleBasedAccessService;
+
+    @Setup
+    public void setUp() {
+        roleBasedAccessService = new RoleBasedAccessService(null);
+
+        User user = User.builder().userId(1L).email("bench@gearup.com").name("Bench").role(UserRole.EMPLOYEE)
+                .build();
+        UserPrinciple principle = new UserPrinciple(user);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principle, null, principle.getAuthorities()));
+    }
+
+    @TearDown
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public boolean hasAnyRoleAllowed() {
+        return roleBasedAccessService.hasAnyRole(UserRole.ADMIN, UserRole.EMPLOYEE);
+    }
+
+    @Benchmark
+    public boolean hasAnyRoleDenied() {
+        return roleBasedAccessService.hasAnyRole(UserRole.ADMIN, UserRole.CUSTOMER);
+    }
+}
@@ -0,0 +1,272 @@
+package com.ead.gearup.loadtest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.ead.gearup.enums.AppointmentStatus;
+import com.ead.gearup.enums.UserRole;
+import com.ead.gearup.model.Appointment;
+import com.ead.gearup.model.Customer;
+import com.ead.gearup.model.Employee;
+import com.ead.gearup.model.User;
+import com.ead.gearup.model.Vehicle;
+import com.ead.gearup.repository.AppointmentRepository;
+import com.ead.gearup.repository.CustomerRepository;
+import com.ead.gearup.repository.EmployeeRepository;
+import com.ead.gearup.repository.VehicleRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/*
+ * End-to-end throughput/latency suite: boots the app on a random port, seeds a
+ * realistic data set and drives the real controllers over HTTP.
+ *
+ *   mvn -Ploadtest test -Dloadtest.concurrency=64 -Dloadtest.duration-seconds=30
+ *
+ * Add -Dspring.threads.virtual.enabled=true (and a different loadtest.report) to
+ * compare virtual-thread request handling against the platform-thread pool.
+ *
+ * Runs on in-memory H2 by default; pass loadtest.jdbc-url (and -driver, -username,
+ * -password) to run against a scratch PostgreSQL database instead. The schema is
+ * created and dropped by the test profile, so never point it at real data.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=${loadtest.jdbc-url:jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE;NON_KEYWORDS=YEAR}",
+        "spring.datasource.driverClassName=${loadtest.jdbc-driver:org.h2.Driver}",
+        "spring.datasource.username=${loadtest.jdbc-username:sa}",
+        "spring.datasource.password=${loadtest.jdbc-password:}",
+        "app.mail.outbox.enabled=false"
+})
+@ActiveProfiles("test")
+class EndToEndLoadTest {
+
+    private static final String PASSWORD = "LoadTest#2025";
+    private static final int SEED_CHUNK = 500;
+
+    @LocalServerPort
+    private int port;
+
+    @Value("${spring.datasource.url}")
+    private String jdbcUrl;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    @Value("${loadtest.concurrency:32}")
+    private int concurrency;
+
+    @Value("${loadtest.warmup-seconds:5}")
+    private int warmupSeconds;
+
+    @Value("${loadtest.duration-seconds:20}")
+    private int durationSeconds;
+
+    @Value("${loadtest.customers:2000}")
+    private int customers;
+
+    @Value("${loadtest.employees:20}")
+    private int employees;
+
+    @Value("${loadtest.vehicles-per-customer:2}")
+    private int vehiclesPerCustomer;
+
+    @Value("${loadtest.appointments-per-vehicle:5}")
+    private int appointmentsPerVehicle;
+
+    @Value("${loadtest.report:target/loadtest-report.json}")
+    private String reportPath;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private VehicleRepository vehicleRepository;
+
+    @Autowired
+    private AppointmentRepository appointmentRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void endToEndLoad() throws Exception {
+        long seedStart = System.nanoTime();
+        List<Long> customerIds = seed();
+        long seedMillis = (System.nanoTime() - seedStart) / 1_000_000;
+
+        LoadDriver driver = new LoadDriver(concurrency, Duration.ofSeconds(warmupSeconds),
+                Duration.ofSeconds(durationSeconds));
+
+        // One session per worker, obtained through the login endpoint itself
+        List<String> tokens = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            HttpResponse<String> response = driver.send(loginRequest(i % customers));
+            assertEquals(200, response.statusCode(), response.body());
+            tokens.add(objectMapper.readTree(response.body()).path("data").path("accessToken").asText());
+        }
+
+        List<EndpointStats> endpoints = new ArrayList<>();
+        endpoints.add(driver.run("POST /api/v1/auth/login",
+                worker -> loginRequest(ThreadLocalRandom.current().nextInt(customers))));
+        endpoints.add(driver.run("GET /api/v1/appointments",
+                worker -> authorized(tokens.get(worker), "/api/v1/appointments?size=20&customerId="
+                        + customerIds.get(ThreadLocalRandom.current().nextInt(customerIds.size())))));
+        endpoints.add(driver.run("GET /api/v1/vehicles",
+                worker -> authorized(tokens.get(worker), "/api/v1/vehicles?size=20")));
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("timestamp", Instant.now());
+        report.put("database", jdbcUrl.replaceAll(";.*", ""));
+        report.put("virtualThreads", virtualThreads);
+        report.put("concurrency", concurrency);
+        report.put("warmupSeconds", warmupSeconds);
+        report.put("durationSeconds", durationSeconds);
+        Map<String, Object> seed = new LinkedHashMap<>();
+        seed.put("customers", customers);
+        seed.put("employees", employees);
+        seed.put("vehicles", customers * vehiclesPerCustomer);
+        seed.put("appointments", customers * vehiclesPerCustomer * appointmentsPerVehicle);
+        seed.put("millis", seedMillis);
+        report.put("seed", seed);
+        report.put("endpoints", endpoints);
+
+        Path path = Path.of(reportPath);
+        Files.createDirectories(path.toAbsolutePath().getParent());
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(path.toFile(), report);
+
+        System.out.printf("%n%-28s %9s %7s %9s %9s %9s %9s%n", "endpoint", "requests", "errors", "req/s",
+                "p50 ms", "p99 ms", "max ms");
+        for (EndpointStats stats : endpoints) {
+            System.out.printf("%-28s %9d %7d %9.1f %9.2f %9.2f %9.2f%n", stats.endpoint(), stats.requests(),
+                    stats.errors(), stats.requestsPerSecond(), stats.p50Ms(), stats.p99Ms(), stats.maxMs());
+        }
+        System.out.println("Report written to " + path.toAbsolutePath());
+
+        for (EndpointStats stats : endpoints) {
+            assertEquals(0, stats.errors(), stats.endpoint() + " returned errors");
+        }
+    }
+
+    private HttpRequest loginRequest(int customer) {
+        String body = "{\"email\":\"" + email(customer) + "\",\"password\":\"" + PASSWORD + "\"}";
+        return HttpRequest.newBuilder(uri("/api/v1/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private HttpRequest authorized(String token, String path) {
+        return HttpRequest.newBuilder(uri(path))
+                .header("Authorization", "Bearer " + token)
+                .GET()
+                .build();
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private static String email(int customer) {
+        return "load-" + customer + "@example.com";
+    }
+
+    /*
+     * Seeds in chunked transactions so inserts go out as JDBC batches. The password is
+     * hashed once: every seeded user shares it, and login still pays the full BCrypt cost.
+     */
+    private List<Long> seed() {
+        Random random = new Random(42);
+        String hash = passwordEncoder.encode(PASSWORD);
+        LocalDate today = LocalDate.now();
+        AppointmentStatus[] statuses = AppointmentStatus.values();
+
+        List<Employee> mechanics = transactionTemplate.execute(status -> {
+            List<Employee> batch = new ArrayList<>();
+            for (int i = 0; i < employees; i++) {
+                User user = User.builder().email("load-mechanic-" + i + "@example.com").name("Mechanic " + i)
+                        .password(hash).role(UserRole.EMPLOYEE).isVerified(true).build();
+                batch.add(Employee.builder().user(user).specialization(i % 2 == 0 ? "Engine" : "Electrical")
+                        .hireDate(today.minusYears(2)).build());
+            }
+            return employeeRepository.saveAll(batch);
+        });
+
+        List<Long> customerIds = new ArrayList<>(customers);
+        for (int from = 0; from < customers; from += SEED_CHUNK) {
+            int to = Math.min(from + SEED_CHUNK, customers);
+            int first = from;
+            transactionTemplate.executeWithoutResult(status -> {
+                List<Customer> customerBatch = new ArrayList<>();
+                for (int c = first; c < to; c++) {
+                    User user = User.builder().email(email(c)).name("Customer " + c).password(hash)
+                            .role(UserRole.CUSTOMER).isVerified(true).build();
+                    customerBatch.add(Customer.builder().user(user).phoneNumber("07" + (10_000_000 + c)).build());
+                }
+                customerRepository.saveAll(customerBatch);
+
+                List<Vehicle> vehicleBatch = new ArrayList<>();
+                for (Customer customer : customerBatch) {
+                    customerIds.add(customer.getCustomerId());
+                    for (int v = 0; v < vehiclesPerCustomer; v++) {
+                        String key = customer.getCustomerId() + "-" + v;
+                        vehicleBatch.add(Vehicle.builder().vin("LOADVIN" + key).licensePlate("LD-" + key)
+                                .make(v % 2 == 0 ? "Toyota" : "Honda").model(v % 2 == 0 ? "Axio" : "Fit")
+                                .year(2010 + random.nextInt(15)).customer(customer).build());
+                    }
+                }
+                vehicleRepository.saveAll(vehicleBatch);
+
+                List<Appointment> appointmentBatch = new ArrayList<>();
+                for (Vehicle vehicle : vehicleBatch) {
+                    for (int a = 0; a < appointmentsPerVehicle; a++) {
+                        LocalTime start = LocalTime.of(8 + random.nextInt(9), random.nextBoolean() ? 0 : 30);
+                        appointmentBatch.add(Appointment.builder()
+                                .customer(vehicle.getCustomer())
+                                .vehicle(vehicle)
+                                .employee(mechanics.get(random.nextInt(mechanics.size())))
+                                .date(today.plusDays(random.nextInt(360) - 180))
+                                .startTime(start)
+                                .endTime(start.plusMinutes(60))
+                                .status(statuses[random.nextInt(statuses.length)])
+                                .notes("Seeded by load test")
+                                .build());
+                    }
+                }
+                appointmentRepository.saveAll(appointmentBatch);
+            });
+        }
+        return customerIds;
+    }
+}
@@ -0,0 +1,52 @@
+package com.ead.gearup.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * Latency and throughput of one endpoint over the measured window.
+ * Latencies are in milliseconds, throughput in requests per second.
+ */
+public record EndpointStats(
+        String endpoint,
+        long requests,
+        long errors,
+        double requestsPerSecond,
+        double meanMs,
+        double p50Ms,
+        double p90Ms,
+        double p99Ms,
+        double maxMs) {
+
+    static EndpointStats of(String endpoint, long[] latenciesNanos, long errors, long elapsedNanos) {
+        long[] sorted = latenciesNanos.clone();
+        Arrays.sort(sorted);
+
+        double mean = sorted.length == 0 ? 0 : Arrays.stream(sorted).average().orElse(0);
+        double seconds = elapsedNanos / 1e9;
+
+        return new EndpointStats(endpoint, sorted.length + errors, errors,
+                round(sorted.length / seconds),
+                toMillis(mean),
+                toMillis(percentile(sorted, 50)),
+                toMillis(percentile(sorted, 90)),
+                toMillis(percentile(sorted, 99)),
+                toMillis(sorted.length == 0 ? 0 : sorted[sorted.length - 1]));
+    }
+
+    // Nearest-rank percentile
+    private static long percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(p / 100.0 * sorted.length);
+        return sorted[Math.max(0, rank - 1)];
+    }
+
+    private static double toMillis(double nanos) {
+        return round(nanos / 1e6);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+}
@@ -0,0 +1,110 @@
+package com.ead.gearup.loadtest;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntFunction;
+
+/**
+ * Closed-loop HTTP driver: a fixed number of workers each send the next request as
+ * soon as the previous one completes. A warmup phase runs first and is discarded.
+ */
+class LoadDriver {
+
+    private final HttpClient client;
+    private final int concurrency;
+    private final Duration warmup;
+    private final Duration duration;
+
+    LoadDriver(int concurrency, Duration warmup, Duration duration) {
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        this.concurrency = concurrency;
+        this.warmup = warmup;
+        this.duration = duration;
+    }
+
+    /**
+     * Drive one endpoint; requestFor receives the worker index so each worker can
+     * pick its own credentials and parameters.
+     */
+    EndpointStats run(String endpoint, IntFunction<HttpRequest> requestFor) throws Exception {
+        runPhase(requestFor, warmup);
+
+        long start = System.nanoTime();
+        List<WorkerResult> results = runPhase(requestFor, duration);
+        long elapsed = System.nanoTime() - start;
+
+        long errors = results.stream().mapToLong(WorkerResult::errors).sum();
+        long[] latencies = results.stream()
+                .flatMapToLong(r -> Arrays.stream(r.latencies(), 0, r.count()))
+                .toArray();
+
+        return EndpointStats.of(endpoint, latencies, errors, elapsed);
+    }
+
+    HttpResponse<String> send(HttpRequest request) throws Exception {
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private List<WorkerResult> runPhase(IntFunction<HttpRequest> requestFor, Duration phase) throws Exception {
+        long deadline = System.nanoTime() + phase.toNanos();
+
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<WorkerResult>> futures = new ArrayList<>(concurrency);
+            for (int i = 0; i < concurrency; i++) {
+                int worker = i;
+                futures.add(workers.submit(() -> drive(worker, requestFor, deadline)));
+            }
+
+            List<WorkerResult> results = new ArrayList<>(concurrency);
+            for (Future<WorkerResult> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        }
+    }
+
+    private WorkerResult drive(int worker, IntFunction<HttpRequest> requestFor, long deadline) {
+        long[] latencies = new long[1024];
+        int count = 0;
+        long errors = 0;
+
+        while (System.nanoTime() < deadline) {
+            HttpRequest request = requestFor.apply(worker);
+            long begin = System.nanoTime();
+            try {
+                HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                long latency = System.nanoTime() - begin;
+                if (response.statusCode() >= 400) {
+                    errors++;
+                    continue;
+                }
+                if (count == latencies.length) {
+                    latencies = Arrays.copyOf(latencies, count * 2);
+                }
+                latencies[count++] = latency;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                errors++;
+            }
+        }
+
+        return new WorkerResult(latencies, count, errors);
+    }
+
+    private record WorkerResult(long[] latencies, int count, long errors) {
+    }
+}
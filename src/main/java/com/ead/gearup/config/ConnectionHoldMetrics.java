@@ -0,0 +1,222 @@
+package com.ead.gearup.config;
+
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import com.ead.gearup.util.ConnectionOwner;
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Hikari metrics tracker that keeps the standard hikaricp.* meters and adds
+ * connection acquire and hold timers tagged with the owning service method
+ * (see {@link ConnectionOwner}). Borrowed connections are also tracked until
+ * returned, so one held past the leak threshold is counted, logged with its
+ * owner and listed by the connectionLeaks health indicator.
+ *
+ * A connection is assumed to be returned on the thread that borrowed it, which
+ * holds for Spring-managed transactions.
+ */
+@Slf4j
+public class ConnectionHoldMetrics implements MetricsTrackerFactory {
+
+    private final ObjectProvider<MeterRegistry> meterRegistryProvider;
+    private final long leakThresholdMillis;
+
+    private final Set<Borrow> borrowed = ConcurrentHashMap.newKeySet();
+    private final ThreadLocal<Deque<Borrow>> threadBorrows = ThreadLocal.withInitial(ArrayDeque::new);
+
+    public ConnectionHoldMetrics(ObjectProvider<MeterRegistry> meterRegistryProvider, long leakThresholdMillis) {
+        this.meterRegistryProvider = meterRegistryProvider;
+        this.leakThresholdMillis = leakThresholdMillis;
+    }
+
+    // Called by Hikari when the pool starts, after the application context is up
+    @Override
+    public IMetricsTracker create(String poolName, PoolStats poolStats) {
+        MeterRegistry meterRegistry = meterRegistryProvider.getObject();
+        Gauge.builder("gearup.db.connections.suspected_leaks", () -> suspectedLeaks(poolName).size())
+                .description("Connections currently held longer than the leak detection threshold")
+                .tag("pool", poolName)
+                .register(meterRegistry);
+        return new Tracker(poolName, meterRegistry,
+                new MicrometerMetricsTrackerFactory(meterRegistry).create(poolName, poolStats));
+    }
+
+    public long getLeakThresholdMillis() {
+        return leakThresholdMillis;
+    }
+
+    // Longest-held first; empty when leak detection is off
+    public List<Borrow> suspectedLeaks() {
+        return suspectedLeaks(null);
+    }
+
+    private List<Borrow> suspectedLeaks(String pool) {
+        if (leakThresholdMillis <= 0) {
+            return List.of();
+        }
+        long now = System.currentTimeMillis();
+        return borrowed.stream()
+                .filter(borrow -> pool == null || borrow.pool().equals(pool))
+                .filter(borrow -> borrow.heldMillis(now) >= leakThresholdMillis)
+                .sorted(Comparator.comparingLong(Borrow::borrowedAt))
+                .toList();
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.leak-check-interval:10000}")
+    public void detectLeaks() {
+        long now = System.currentTimeMillis();
+        for (Borrow borrow : suspectedLeaks()) {
+            if (borrow.markReported()) {
+                meterRegistryProvider.getObject()
+                        .counter("gearup.db.connection.leaks", "pool", borrow.pool(), "method", borrow.owner())
+                        .increment();
+                log.warn("Connection from {} held for {} ms by {} on thread {} (possible leak)",
+                        borrow.pool(), borrow.heldMillis(now), borrow.owner(), borrow.thread());
+            }
+        }
+    }
+
+    private void borrowed(String pool) {
+        Borrow borrow = new Borrow(pool, ConnectionOwner.current(), Thread.currentThread().getName(),
+                System.currentTimeMillis());
+        threadBorrows.get().push(borrow);
+        borrowed.add(borrow);
+    }
+
+    // Latest borrow from this pool on the current thread
+    private Borrow returned(String pool) {
+        Deque<Borrow> borrows = threadBorrows.get();
+        for (Iterator<Borrow> it = borrows.iterator(); it.hasNext();) {
+            Borrow borrow = it.next();
+            if (borrow.pool().equals(pool)) {
+                it.remove();
+                borrowed.remove(borrow);
+                return borrow;
+            }
+        }
+        return null;
+    }
+
+    public static final class Borrow {
+
+        private final String pool;
+        private final String owner;
+        private final String thread;
+        private final long borrowedAt;
+        private volatile boolean reported;
+
+        Borrow(String pool, String owner, String thread, long borrowedAt) {
+            this.pool = pool;
+            this.owner = owner;
+            this.thread = thread;
+            this.borrowedAt = borrowedAt;
+        }
+
+        public String pool() {
+            return pool;
+        }
+
+        public String owner() {
+            return owner;
+        }
+
+        public String thread() {
+            return thread;
+        }
+
+        public long borrowedAt() {
+            return borrowedAt;
+        }
+
+        public long heldMillis(long now) {
+            return now - borrowedAt;
+        }
+
+        // True the first time only, so each leak is counted and logged once
+        synchronized boolean markReported() {
+            if (reported) {
+                return false;
+            }
+            reported = true;
+            return true;
+        }
+    }
+
+    private class Tracker implements IMetricsTracker {
+
+        private final String pool;
+        private final MeterRegistry meterRegistry;
+        private final IMetricsTracker delegate;
+
+        Tracker(String pool, MeterRegistry meterRegistry, IMetricsTracker delegate) {
+            this.pool = pool;
+            this.meterRegistry = meterRegistry;
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void recordConnectionCreatedMillis(long connectionCreatedMillis) {
+            delegate.recordConnectionCreatedMillis(connectionCreatedMillis);
+        }
+
+        // Also reported for an acquisition that times out, followed by recordConnectionTimeout
+        @Override
+        public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+            delegate.recordConnectionAcquiredNanos(elapsedAcquiredNanos);
+            Timer.builder("gearup.db.connection.acquire")
+                    .description("Time spent waiting for a pooled connection, per service method")
+                    .tag("pool", pool)
+                    .tag("method", ConnectionOwner.current())
+                    .publishPercentileHistogram()
+                    .register(meterRegistry)
+                    .record(elapsedAcquiredNanos, TimeUnit.NANOSECONDS);
+            borrowed(pool);
+        }
+
+        @Override
+        public void recordConnectionUsageMillis(long elapsedBorrowedMillis) {
+            delegate.recordConnectionUsageMillis(elapsedBorrowedMillis);
+            Borrow borrow = returned(pool);
+            Timer.builder("gearup.db.connection.hold")
+                    .description("Time a connection was held before being returned, per service method")
+                    .tag("pool", pool)
+                    .tag("method", borrow != null ? borrow.owner() : ConnectionOwner.current())
+                    .publishPercentileHistogram()
+                    .register(meterRegistry)
+                    .record(elapsedBorrowedMillis, TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public void recordConnectionTimeout() {
+            delegate.recordConnectionTimeout();
+            // The timed-out acquisition was tracked as a borrow; no connection was handed out
+            Borrow borrow = returned(pool);
+            meterRegistry.counter("gearup.db.connection.timeouts", "pool", pool,
+                    "method", borrow != null ? borrow.owner() : ConnectionOwner.current()).increment();
+        }
+
+        @Override
+        public void close() {
+            delegate.close();
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.ead.gearup.config;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import com.ead.gearup.util.ConnectionOwner;
+
+/**
+ * Marks the thread with the service method being called so connection
+ * acquire/hold times can be tagged with it. Runs outside the transaction
+ * interceptor, so the connection a @Transactional method opens at begin and
+ * returns at commit is charged to that method.
+ */
+@Component
+@Aspect
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(name = "app.datasource.connection-metrics.enabled", havingValue = "true", matchIfMissing = true)
+public class ConnectionOwnerAspect {
+
+    @Around("execution(public * com.ead.gearup.service..*(..))")
+    public Object recordConnectionOwner(ProceedingJoinPoint joinPoint) throws Throwable {
+        String owner = joinPoint.getSignature().getDeclaringType().getSimpleName() + "."
+                + joinPoint.getSignature().getName();
+        if (!ConnectionOwner.begin(owner)) {
+            return joinPoint.proceed();
+        }
+
+        try {
+            return joinPoint.proceed();
+        } finally {
+            ConnectionOwner.end();
+        }
+    }
+}
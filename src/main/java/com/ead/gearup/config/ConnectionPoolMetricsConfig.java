@@ -0,0 +1,79 @@
+package com.ead.gearup.config;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Installs {@link ConnectionHoldMetrics} as the metrics tracker of every Hikari
+ * pool (replacing Boot's default tracker, whose hikaricp.* meters it keeps) and
+ * exposes suspected connection leaks as the connectionLeaks health component.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.connection-metrics.enabled", havingValue = "true", matchIfMissing = true)
+public class ConnectionPoolMetricsConfig {
+
+    // Static, like the post-processor below, so neither forces early initialization of this configuration
+    @Bean
+    public static ConnectionHoldMetrics connectionHoldMetrics(ObjectProvider<MeterRegistry> meterRegistry,
+            Environment environment) {
+        long leakThreshold = environment.getProperty("spring.datasource.hikari.leak-detection-threshold",
+                Long.class, 0L);
+        return new ConnectionHoldMetrics(meterRegistry, leakThreshold);
+    }
+
+    // Before initialization: the tracker must be set before the pool starts and before
+    // SqlMetricsConfig wraps the pool in a proxy
+    @Bean
+    public static BeanPostProcessor connectionHoldMetricsPostProcessor(ObjectProvider<ConnectionHoldMetrics> metrics) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource hikari && hikari.getMetricsTrackerFactory() == null
+                        && hikari.getMetricRegistry() == null) {
+                    hikari.setMetricsTrackerFactory(metrics.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+
+    /*
+     * A leak slows the node down but it still serves requests, so it gets its own
+     * status rather than DOWN. It ranks between OUT_OF_SERVICE and UP and maps to
+     * HTTP 200 (see management.endpoint.health.status.* in application.properties).
+     */
+    static final Status LEAK_SUSPECTED = new Status("LEAK_SUSPECTED",
+            "Connections held longer than the leak detection threshold");
+
+    @Bean
+    public HealthIndicator connectionLeaksHealthIndicator(ConnectionHoldMetrics metrics) {
+        return () -> {
+            long now = System.currentTimeMillis();
+            List<Map<String, Object>> leaks = metrics.suspectedLeaks().stream()
+                    .map(borrow -> Map.<String, Object>of(
+                            "pool", borrow.pool(),
+                            "method", borrow.owner(),
+                            "thread", borrow.thread(),
+                            "heldMillis", borrow.heldMillis(now)))
+                    .toList();
+            return Health.status(leaks.isEmpty() ? Status.UP : LEAK_SUSPECTED)
+                    .withDetail("leakDetectionThreshold", metrics.getLeakThresholdMillis())
+                    .withDetail("suspectedLeaks", leaks)
+                    .build();
+        };
+    }
+}
@@ -0,0 +1,65 @@
+package com.ead.gearup.config;
+
+import javax.sql.DataSource;
+
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.id.enhanced.DatabaseStructure;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Tables created before the switch from IDENTITY columns to pooled sequences
+ * already hold rows, while ddl-auto creates each sequence starting at 1. Before
+ * anything can insert, move every sequence past the highest existing id.
+ * Once a sequence is ahead of its table this is a no-op.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdSequenceAligner {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final DataSource dataSource;
+
+    @PostConstruct
+    void align() {
+        SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        Dialect dialect = sessionFactory.getJdbcServices().getDialect();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+        sessionFactory.getMappingMetamodel().forEachEntityDescriptor(persister -> {
+            if (!(persister.getGenerator() instanceof SequenceStyleGenerator generator)
+                    || !(persister instanceof AbstractEntityPersister entity)) {
+                return;
+            }
+
+            DatabaseStructure sequence = generator.getDatabaseStructure();
+            String sequenceName = sequence.getPhysicalName().render();
+            int increment = sequence.getIncrementSize();
+
+            Long maxId = jdbcTemplate.queryForObject("SELECT MAX(" + entity.getIdentifierColumnNames()[0] + ") FROM "
+                    + entity.getTableName(), Long.class);
+            if (maxId == null) {
+                return;
+            }
+
+            // The pooled optimizer hands out (value - increment, value] for each value it draws
+            Long next = jdbcTemplate.queryForObject(
+                    dialect.getSequenceSupport().getSequenceNextValString(sequenceName), Long.class);
+            if (next != null && next - increment < maxId) {
+                long restart = maxId + increment;
+                jdbcTemplate.execute("ALTER SEQUENCE " + sequenceName + " RESTART WITH " + restart);
+                log.info("Moved sequence {} to {} (max id in {} is {})", sequenceName, restart,
+                        entity.getTableName(), maxId);
+            }
+        });
+    }
+}
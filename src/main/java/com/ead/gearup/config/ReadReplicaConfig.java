@@ -0,0 +1,65 @@
+package com.ead.gearup.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Replaces Boot's single DataSource with a primary pool, a read-replica pool and
+ * a routing DataSource in front of them (see {@link ReadWriteRoutingDataSource}).
+ * The replica must carry the same schema, normally as a streaming replica of the
+ * primary; Hibernate schema updates only ever run against the primary.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.replica.enabled", havingValue = "true")
+public class ReadReplicaConfig {
+
+    // Only read-only transactions opened by service methods may read from the replica
+    static final String REPLICA_TRANSACTION_PREFIX = "com.ead.gearup.service.";
+
+    // Same settings Boot would use for its own pool (spring.datasource.*)
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    @ConfigurationProperties("app.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource() {
+        return DataSourceBuilder.create().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("replicaDataSource") DataSource replica,
+            @Value("${app.datasource.replica.lag-query}") String lagQuery,
+            @Value("${app.datasource.replica.max-lag:5000}") long maxLagMillis,
+            MeterRegistry meterRegistry) {
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(replica, lagQuery, maxLagMillis, meterRegistry);
+        // Reads start on the replica only once it has been checked
+        monitor.check();
+        return monitor;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+            @Qualifier("replicaDataSource") DataSource replica, ReplicaLagMonitor replicaLagMonitor,
+            MeterRegistry meterRegistry) {
+        return new LazyConnectionDataSourceProxy(new ReadWriteRoutingDataSource(primary, replica, replicaLagMonitor,
+                meterRegistry.counter("gearup.db.replica.fallbacks"), REPLICA_TRANSACTION_PREFIX));
+    }
+}
@@ -0,0 +1,65 @@
+package com.ead.gearup.config;
+
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.Counter;
+
+/**
+ * Sends read-only transactions started by a service method to the replica and
+ * everything else to the primary. Spring Data repositories open their own
+ * read-only transaction for every query called outside one; those stay on the
+ * primary, so a service that reads and then writes without a transaction of its
+ * own never sees stale rows.
+ *
+ * Must sit behind a LazyConnectionDataSourceProxy: the transaction's read-only
+ * flag and name are only visible once the transaction has begun, so the
+ * physical connection has to be fetched at the first statement.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    enum Target {
+        PRIMARY, REPLICA
+    }
+
+    private final ReplicaLagMonitor lagMonitor;
+    private final Counter fallbacks;
+    private final String replicaTransactionPrefix;
+
+    /**
+     * @param replicaTransactionPrefix read-only transactions whose name (the qualified
+     *                                 name of the @Transactional method) starts with this
+     *                                 go to the replica
+     */
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica, ReplicaLagMonitor lagMonitor,
+            Counter fallbacks, String replicaTransactionPrefix) {
+        this.lagMonitor = lagMonitor;
+        this.replicaTransactionPrefix = replicaTransactionPrefix;
+        this.fallbacks = fallbacks;
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return Target.PRIMARY;
+        }
+        // A participating transaction keeps the name of the one that started it
+        String name = TransactionSynchronizationManager.getCurrentTransactionName();
+        if (name == null || !name.startsWith(replicaTransactionPrefix)) {
+            return Target.PRIMARY;
+        }
+        if (!lagMonitor.isUsable()) {
+            fallbacks.increment();
+            return Target.PRIMARY;
+        }
+        return Target.REPLICA;
+    }
+}
@@ -0,0 +1,79 @@
+package com.ead.gearup.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Polls the read replica's replication lag. The replica is usable while the
+ * last check succeeded and the lag was within the limit; otherwise
+ * {@link ReadWriteRoutingDataSource} sends read-only transactions to the primary.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private static final int QUERY_TIMEOUT_SECONDS = 2;
+
+    private final JdbcTemplate replica;
+    private final String lagQuery;
+    private final long maxLagMillis;
+
+    // -1 while unknown (replica unreachable or not checked yet)
+    private volatile long lagMillis = -1;
+    private volatile boolean usable;
+
+    public ReplicaLagMonitor(DataSource replica, String lagQuery, long maxLagMillis, MeterRegistry meterRegistry) {
+        this.replica = new JdbcTemplate(replica);
+        this.replica.setQueryTimeout(QUERY_TIMEOUT_SECONDS);
+        this.lagQuery = lagQuery;
+        this.maxLagMillis = maxLagMillis;
+
+        Gauge.builder("gearup.db.replica.lag", () -> lagMillis)
+                .description("Replication lag of the read replica in milliseconds, -1 if unknown")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        Gauge.builder("gearup.db.replica.usable", () -> usable ? 1 : 0)
+                .description("1 while read-only transactions are routed to the replica")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.replica.lag-check-interval:2000}")
+    public void check() {
+        boolean nowUsable;
+        try {
+            // NULL means the database is not replaying WAL (e.g. a plain second instance), so no lag
+            Double lag = replica.queryForObject(lagQuery, Double.class);
+            lagMillis = lag != null ? lag.longValue() : 0;
+            nowUsable = lagMillis <= maxLagMillis;
+            if (!nowUsable && usable) {
+                log.warn("Read replica is {} ms behind (limit {} ms), reading from the primary", lagMillis,
+                        maxLagMillis);
+            }
+        } catch (DataAccessException e) {
+            lagMillis = -1;
+            nowUsable = false;
+            if (usable) {
+                log.warn("Read replica is unreachable, reading from the primary: {}", e.getMessage());
+            }
+        }
+
+        if (nowUsable && !usable) {
+            log.info("Read replica is {} ms behind, routing read-only transactions to it", lagMillis);
+        }
+        usable = nowUsable;
+    }
+
+    public boolean isUsable() {
+        return usable;
+    }
+
+    public long getLagMillis() {
+        return lagMillis;
+    }
+}
@@ -4,6 +4,7 @@ import com.ead.gearup.dto.response.ApiResponseDTO;
 import com.ead.gearup.filter.JwtAuthenticationFilter;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.http.HttpServletResponse;
 
 import lombok.RequiredArgsConstructor;
@@ -49,12 +50,16 @@ public class SecurityConfig {
 
                 // Authorization rules
                 .authorizeHttpRequests(request -> request
+                        // Async re-dispatch only completes a request that was already authorized (NDJSON exports)
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers(
                                 "/swagger-ui/**",
                                 "/v3/api-docs/**",
                                 "/swagger-ui.html",
                                 "/api/v1/auth/**",
-                                "/api/v1/public/**")
+                                "/api/v1/public/**",
+                                // WebSocket handshake; STOMP CONNECT carries the JWT
+                                "/ws/**")
                         .permitAll()
                         .requestMatchers("/api/v1/admin/**").hasRole("ADMIN")
                         // .requestMatchers("/api/v1/customers/**").hasRole("CUSTOMER")
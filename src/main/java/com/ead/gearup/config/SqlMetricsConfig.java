@@ -0,0 +1,80 @@
+package com.ead.gearup.config;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import com.ead.gearup.util.SqlStatementStats;
+
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+
+/**
+ * Wraps the DataSource in a datasource-proxy so every JDBC execution is counted
+ * and timed against the current request, and slow statements are logged.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "app.sql-metrics.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlMetricsConfig {
+
+    // Static so the post-processor does not force early initialization of this configuration
+    @Bean
+    public static BeanPostProcessor sqlMetricsDataSourcePostProcessor(Environment environment) {
+        long slowQueryThreshold = environment.getProperty("app.sql-metrics.slow-query-threshold", Long.class, 500L);
+
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                // Only the pools: a statement through the read/write routing DataSource is counted once
+                if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)
+                        && !(bean instanceof DelegatingDataSource)) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name(beanName)
+                            .listener(new StatementListener(slowQueryThreshold))
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+
+    static class StatementListener implements QueryExecutionListener {
+
+        private final long slowQueryThreshold;
+
+        StatementListener(long slowQueryThreshold) {
+            this.slowQueryThreshold = slowQueryThreshold;
+        }
+
+        @Override
+        public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        }
+
+        @Override
+        public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            SqlStatementStats stats = SqlStatementStats.current();
+            if (stats != null) {
+                stats.record(execInfo.getElapsedTime());
+            }
+
+            if (slowQueryThreshold > 0 && execInfo.getElapsedTime() >= slowQueryThreshold) {
+                log.warn("Slow SQL ({} ms): {}", execInfo.getElapsedTime(), queryInfoList.stream()
+                        .map(QueryInfo::getQuery)
+                        .collect(Collectors.joining("; ")));
+            }
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.ead.gearup.config;
+
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.ead.gearup.model.Vehicle;
+import com.ead.gearup.repository.VehicleRepository;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Vehicles saved before the lookup key columns (plate_key, vin_key and their
+ * _canonical forms) existed have them null and would be invisible to lookups
+ * and duplicate checks. Fill them in at startup, 500 rows per
+ * transaction; once every row has its keys this is a single empty query.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VehicleKeyBackfill {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final VehicleRepository vehicleRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    @PostConstruct
+    void backfill() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        int total = 0;
+        int updated;
+        do {
+            updated = transaction.execute(status -> {
+                List<Vehicle> vehicles = vehicleRepository.findWithoutKeys(Limit.of(BATCH_SIZE));
+                vehicles.forEach(Vehicle::normalizeKeys);
+                return vehicles.size();
+            });
+            total += updated;
+        } while (updated == BATCH_SIZE);
+
+        if (total > 0) {
+            log.info("Filled lookup keys for {} vehicles", total);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.ead.gearup.config;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Streams the JFR jdk.VirtualThreadPinned event in-process: a virtual thread that
+ * blocks while pinned to its carrier (typically inside synchronized code in a
+ * driver) is counted per blocking site, and each new site is logged once with its
+ * stack so it can be fixed or worked around.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor {
+
+    private static final List<String> JDK_PACKAGES = List.of("java.", "javax.", "jdk.", "sun.");
+
+    private final MeterRegistry meterRegistry;
+
+    // Milliseconds; shorter pins are not recorded by JFR
+    @Value("${app.virtual-threads.pinned-threshold:20}")
+    private long pinnedThresholdMillis;
+
+    private final Set<String> reportedSites = ConcurrentHashMap.newKeySet();
+    private Counter submitFailures;
+    private RecordingStream stream;
+
+    @PostConstruct
+    void start() {
+        submitFailures = meterRegistry.counter("gearup.virtual_threads.submit_failed");
+
+        stream = new RecordingStream();
+        stream.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ofMillis(pinnedThresholdMillis))
+                .withStackTrace();
+        stream.enable("jdk.VirtualThreadSubmitFailed");
+        stream.onEvent("jdk.VirtualThreadPinned", this::onPinned);
+        stream.onEvent("jdk.VirtualThreadSubmitFailed", event -> submitFailures.increment());
+        stream.startAsync();
+    }
+
+    @PreDestroy
+    void stop() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    void onPinned(RecordedEvent event) {
+        String site = blockingSite(event);
+        Timer.builder("gearup.virtual_threads.pinned")
+                .description("Time virtual threads spent blocked while pinned to their carrier")
+                .tag("site", site)
+                .register(meterRegistry)
+                .record(event.getDuration());
+
+        if (reportedSites.add(site)) {
+            log.warn("Virtual thread pinned for {} ms at {}{}", event.getDuration().toMillis(), site,
+                    event.getStackTrace() != null ? formatStack(event) : "");
+        }
+    }
+
+    // First frame outside the JDK: the driver or application code that blocked
+    private static String blockingSite(RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return "unknown";
+        }
+        List<RecordedFrame> frames = event.getStackTrace().getFrames();
+        return frames.stream()
+                .filter(frame -> JDK_PACKAGES.stream().noneMatch(frame.getMethod().getType().getName()::startsWith))
+                .findFirst()
+                .or(() -> frames.stream().findFirst())
+                .map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName())
+                .orElse("unknown");
+    }
+
+    private static String formatStack(RecordedEvent event) {
+        StringBuilder stack = new StringBuilder();
+        for (RecordedFrame frame : event.getStackTrace().getFrames()) {
+            stack.append(System.lineSeparator()).append("\tat ")
+                    .append(frame.getMethod().getType().getName()).append('.')
+                    .append(frame.getMethod().getName()).append(':').append(frame.getLineNumber());
+        }
+        return stack.toString();
+    }
+}
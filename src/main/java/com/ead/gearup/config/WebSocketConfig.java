@@ -0,0 +1,92 @@
+package com.ead.gearup.config;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.messaging.simp.config.ChannelRegistration;
+import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
+import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
+import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
+
+import com.ead.gearup.filter.JwtStompChannelInterceptor;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * STOMP over WebSocket at /ws for pushing status changes to clients. The
+ * handshake is open; clients authenticate on the STOMP CONNECT frame with the
+ * usual "Authorization: Bearer" access token and may only subscribe to their
+ * own user queues (/user/queue/...).
+ *
+ * The in-memory broker keeps one session per connection and delivers each push
+ * only to the sessions of the users it concerns, so fan-out cost follows the
+ * number of recipients, not the number of connections. Slow clients are cut
+ * off by the send time and buffer limits instead of holding up others.
+ */
+@Configuration
+@EnableWebSocketMessageBroker
+@RequiredArgsConstructor
+public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
+
+    private final JwtStompChannelInterceptor jwtStompChannelInterceptor;
+
+    @Value("${app.websocket.allowed-origins:http://localhost:3000}")
+    private String[] allowedOrigins;
+
+    // Milliseconds between heartbeats in each direction, so dead connections are noticed
+    @Value("${app.websocket.heartbeat:10000}")
+    private long heartbeatMillis;
+
+    @Value("${app.websocket.send-time-limit:15000}")
+    private int sendTimeLimitMillis;
+
+    @Value("${app.websocket.send-buffer-size:524288}")
+    private int sendBufferSizeBytes;
+
+    @Value("${app.websocket.outbound-threads:8}")
+    private int outboundThreads;
+
+    private TaskScheduler messageBrokerTaskScheduler;
+
+    @Autowired
+    public void setMessageBrokerTaskScheduler(@Lazy @Qualifier("messageBrokerTaskScheduler") TaskScheduler scheduler) {
+        this.messageBrokerTaskScheduler = scheduler;
+    }
+
+    @Override
+    public void registerStompEndpoints(StompEndpointRegistry registry) {
+        registry.addEndpoint("/ws").setAllowedOriginPatterns(allowedOrigins);
+    }
+
+    @Override
+    public void configureMessageBroker(MessageBrokerRegistry registry) {
+        registry.enableSimpleBroker("/queue")
+                .setHeartbeatValue(new long[] { heartbeatMillis, heartbeatMillis })
+                .setTaskScheduler(messageBrokerTaskScheduler);
+        registry.setApplicationDestinationPrefixes("/app");
+        registry.setUserDestinationPrefix("/user");
+    }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.interceptors(jwtStompChannelInterceptor);
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.taskExecutor().corePoolSize(outboundThreads).maxPoolSize(outboundThreads);
+    }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        // Clients only send CONNECT/SUBSCRIBE frames, so inbound messages stay small
+        registration.setMessageSizeLimit(16 * 1024)
+                .setSendTimeLimit(sendTimeLimitMillis)
+                .setSendBufferSizeLimit(sendBufferSizeBytes);
+    }
+}
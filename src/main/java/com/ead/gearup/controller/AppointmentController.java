@@ -1,21 +1,30 @@
 package com.ead.gearup.controller;
 
 import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.ead.gearup.dto.appointment.AppointmentCreateDTO;
 import com.ead.gearup.dto.appointment.AppointmentResponseDTO;
 import com.ead.gearup.dto.appointment.AppointmentUpdateDTO;
+import com.ead.gearup.dto.appointment.EmployeeAvailabilityDTO;
+import com.ead.gearup.dto.appointment.TimeSlotDTO;
 import com.ead.gearup.dto.response.ApiResponseDTO;
+import com.ead.gearup.dto.response.CursorPageDTO;
+import com.ead.gearup.enums.AppointmentStatus;
 import com.ead.gearup.service.AppointmentService;
 
 import jakarta.servlet.http.HttpServletRequest;
@@ -46,6 +55,33 @@ public class AppointmentController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @GetMapping
+    public ResponseEntity<ApiResponseDTO<CursorPageDTO<AppointmentResponseDTO>>> listAppointments(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) AppointmentStatus status,
+            @RequestParam(required = false) Long customerId,
+            @RequestParam(required = false) Long vehicleId,
+            @RequestParam(required = false) Long employeeId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            HttpServletRequest request) {
+
+        CursorPageDTO<AppointmentResponseDTO> page = appointmentService.listAppointments(from, to, status,
+                customerId, vehicleId, employeeId, cursor, size);
+
+        ApiResponseDTO<CursorPageDTO<AppointmentResponseDTO>> response = ApiResponseDTO
+                .<CursorPageDTO<AppointmentResponseDTO>>builder()
+                .status("success")
+                .message("Appointments retrieved successfully")
+                .data(page)
+                .timestamp(Instant.now())
+                .path(request.getRequestURI())
+                .build();
+
+        return ResponseEntity.ok(response);
+    }
+
     @PatchMapping(value = "/{id}")
     public ResponseEntity<ApiResponseDTO<AppointmentResponseDTO>> updateAppointment(@PathVariable Long id,
             @RequestBody @Valid AppointmentUpdateDTO appointmentUpdateDTO, HttpServletRequest request) {
@@ -62,4 +98,46 @@ public class AppointmentController {
 
         return ResponseEntity.ok(response);
     }
+
+    @GetMapping("/next-slot")
+    public ResponseEntity<ApiResponseDTO<TimeSlotDTO>> getNextAvailableSlot(
+            @RequestParam Long employeeId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(defaultValue = "60") int durationMinutes,
+            HttpServletRequest request) {
+
+        TimeSlotDTO slot = appointmentService.findNextAvailableSlot(employeeId, date, durationMinutes);
+
+        ApiResponseDTO<TimeSlotDTO> response = ApiResponseDTO.<TimeSlotDTO>builder()
+                .status("success")
+                .message("Next available slot retrieved successfully")
+                .data(slot)
+                .timestamp(Instant.now())
+                .path(request.getRequestURI())
+                .build();
+
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/availability")
+    public ResponseEntity<ApiResponseDTO<List<EmployeeAvailabilityDTO>>> getAvailability(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String specialization,
+            @RequestParam(defaultValue = "30") int minDurationMinutes,
+            HttpServletRequest request) {
+
+        List<EmployeeAvailabilityDTO> availability = appointmentService.findAvailability(from, to, specialization,
+                minDurationMinutes);
+
+        ApiResponseDTO<List<EmployeeAvailabilityDTO>> response = ApiResponseDTO.<List<EmployeeAvailabilityDTO>>builder()
+                .status("success")
+                .message("Availability retrieved successfully")
+                .data(availability)
+                .timestamp(Instant.now())
+                .path(request.getRequestURI())
+                .build();
+
+        return ResponseEntity.ok(response);
+    }
 }
@@ -4,8 +4,10 @@ import com.ead.gearup.dto.customer.CustomerRequestDTO;
 import com.ead.gearup.dto.customer.CustomerResponseDTO;
 import com.ead.gearup.dto.customer.CustomerUpdateDTO;
 import com.ead.gearup.dto.response.ApiResponseDTO;
+import com.ead.gearup.dto.response.CursorPageDTO;
 import com.ead.gearup.enums.UserRole;
 import com.ead.gearup.service.CustomerService;
+import com.ead.gearup.util.NdjsonResponseWriter;
 import com.ead.gearup.validation.RequiresRole;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -13,13 +15,14 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import java.time.Instant;
-import java.util.List;
 
 @RestController
 @RequestMapping("/api/v1/customers")
@@ -29,14 +32,19 @@ import java.util.List;
 public class CustomerController {
 
     private final CustomerService customerService;
+    private final NdjsonResponseWriter ndjsonResponseWriter;
 
     @GetMapping
-    @Operation(summary = "Get all customers")
+    @Operation(summary = "Get customers, one keyset page at a time")
 //     @RequiresRole({ UserRole.CUSTOMER, UserRole.ADMIN, UserRole.EMPLOYEE })
-    public ResponseEntity<ApiResponseDTO<List<CustomerResponseDTO>>> getAll(HttpServletRequest request) {
-        List<CustomerResponseDTO> customers = customerService.getAll();
+    public ResponseEntity<ApiResponseDTO<CursorPageDTO<CustomerResponseDTO>>> getAll(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            HttpServletRequest request) {
+        CursorPageDTO<CustomerResponseDTO> customers = customerService.getPage(cursor, size);
 
-        ApiResponseDTO<List<CustomerResponseDTO>> response = ApiResponseDTO.<List<CustomerResponseDTO>>builder()
+        ApiResponseDTO<CursorPageDTO<CustomerResponseDTO>> response = ApiResponseDTO
+                .<CursorPageDTO<CustomerResponseDTO>>builder()
                 .status("success")
                 .message("Customers retrieved successfully")
                 .data(customers)
@@ -47,6 +55,13 @@ public class CustomerController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Stream all customers as newline-delimited JSON")
+//     @RequiresRole({ UserRole.ADMIN, UserRole.EMPLOYEE })
+    public ResponseEntity<StreamingResponseBody> export() {
+        return ndjsonResponseWriter.stream("customers.ndjson", customerService::exportAll);
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Get customer by ID")
 //     @RequiresRole({ UserRole.CUSTOMER, UserRole.ADMIN, UserRole.EMPLOYEE })
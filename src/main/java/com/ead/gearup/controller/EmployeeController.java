@@ -2,21 +2,24 @@ package com.ead.gearup.controller;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.ead.gearup.dto.employee.CreateEmployeeDTO;
 import com.ead.gearup.dto.employee.EmployeeResponseDTO;
 import com.ead.gearup.dto.employee.UpdateEmployeeDTO;
 import com.ead.gearup.dto.response.ApiResponseDTO;
+import com.ead.gearup.dto.response.CursorPageDTO;
 import com.ead.gearup.service.EmployeeService;
+import com.ead.gearup.util.NdjsonResponseWriter;
 
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 
 import java.time.Instant;
-import java.util.List;
 
 @RestController
 @RequestMapping("/api/v1/employees")
@@ -26,6 +29,9 @@ public class EmployeeController {
     @Autowired
     private EmployeeService employeeService;
 
+    @Autowired
+    private NdjsonResponseWriter ndjsonResponseWriter;
+
     // @RequiresRole({UserRole.ADMIN, UserRole.EMPLOYEE, UserRole.PUBLIC})
     @PostMapping
     public ResponseEntity<ApiResponseDTO<EmployeeResponseDTO>> createEmployee(
@@ -47,11 +53,15 @@ public class EmployeeController {
     // @RequiresRole({UserRole.ADMIN, UserRole.EMPLOYEE, UserRole.CUSTOMER,
     // UserRole.PUBLIC})
     @GetMapping
-    public ResponseEntity<ApiResponseDTO<List<EmployeeResponseDTO>>> getAllEmployees(HttpServletRequest request) {
+    public ResponseEntity<ApiResponseDTO<CursorPageDTO<EmployeeResponseDTO>>> getAllEmployees(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            HttpServletRequest request) {
 
-        List<EmployeeResponseDTO> employees = employeeService.getAllEmployees();
+        CursorPageDTO<EmployeeResponseDTO> employees = employeeService.getEmployeesPage(cursor, size);
 
-        ApiResponseDTO<List<EmployeeResponseDTO>> response = ApiResponseDTO.<List<EmployeeResponseDTO>>builder()
+        ApiResponseDTO<CursorPageDTO<EmployeeResponseDTO>> response = ApiResponseDTO
+                .<CursorPageDTO<EmployeeResponseDTO>>builder()
                 .status("success")
                 .message("Employees retrieved successfully")
                 .timestamp(Instant.now())
@@ -62,6 +72,12 @@ public class EmployeeController {
         return ResponseEntity.ok(response);
     }
 
+    // @RequiresRole({UserRole.ADMIN, UserRole.EMPLOYEE})
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportEmployees() {
+        return ndjsonResponseWriter.stream("employees.ndjson", employeeService::exportEmployees);
+    }
+
     // @RequiresRole({UserRole.ADMIN, UserRole.EMPLOYEE, UserRole.CUSTOMER,
     // UserRole.PUBLIC})
     @GetMapping("/{id}")
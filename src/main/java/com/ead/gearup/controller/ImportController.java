@@ -0,0 +1,76 @@
+package com.ead.gearup.controller;
+
+import java.time.Instant;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.ead.gearup.dto.imports.ImportJobDTO;
+import com.ead.gearup.dto.response.ApiResponseDTO;
+import com.ead.gearup.enums.UserRole;
+import com.ead.gearup.service.imports.ImportService;
+import com.ead.gearup.service.imports.ImportType;
+import com.ead.gearup.validation.RequiresRole;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/imports")
+public class ImportController {
+
+    private final ImportService importService;
+
+    @RequiresRole({ UserRole.ADMIN })
+    @PostMapping(value = "/customers", consumes = MediaType.MULTIPART_FORM_DATA_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ApiResponseDTO<ImportJobDTO>> importCustomers(@RequestParam("file") MultipartFile file,
+            HttpServletRequest request) {
+        return accepted(importService.startImport(ImportType.CUSTOMERS, file), request);
+    }
+
+    @RequiresRole({ UserRole.ADMIN })
+    @PostMapping(value = "/vehicles", consumes = MediaType.MULTIPART_FORM_DATA_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ApiResponseDTO<ImportJobDTO>> importVehicles(@RequestParam("file") MultipartFile file,
+            HttpServletRequest request) {
+        return accepted(importService.startImport(ImportType.VEHICLES, file), request);
+    }
+
+    @RequiresRole({ UserRole.ADMIN })
+    @GetMapping("/{jobId}")
+    public ResponseEntity<ApiResponseDTO<ImportJobDTO>> getImportJob(@PathVariable String jobId,
+            HttpServletRequest request) {
+
+        ApiResponseDTO<ImportJobDTO> response = ApiResponseDTO.<ImportJobDTO>builder()
+                .status("success")
+                .message("Import job retrieved successfully")
+                .data(importService.getJob(jobId))
+                .timestamp(Instant.now())
+                .path(request.getRequestURI())
+                .build();
+
+        return ResponseEntity.ok(response);
+    }
+
+    private ResponseEntity<ApiResponseDTO<ImportJobDTO>> accepted(ImportJobDTO job, HttpServletRequest request) {
+        ApiResponseDTO<ImportJobDTO> response = ApiResponseDTO.<ImportJobDTO>builder()
+                .status("success")
+                .message("Import started")
+                .data(job)
+                .timestamp(Instant.now())
+                .path(request.getRequestURI())
+                .build();
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+    }
+}
@@ -1,18 +1,23 @@
 package com.ead.gearup.controller;
 
 import java.time.Instant;
+import java.util.List;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.ead.gearup.dto.response.ApiResponseDTO;
+import com.ead.gearup.dto.task.TaskBatchCreateDTO;
 import com.ead.gearup.dto.task.TaskCreateDTO;
 import com.ead.gearup.dto.task.TaskResponseDTO;
+import com.ead.gearup.dto.task.TaskStatusUpdateDTO;
 import com.ead.gearup.service.TaskService;
 
 import jakarta.servlet.http.HttpServletRequest;
@@ -43,4 +48,42 @@ public class TaskController {
 
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
+
+    // @RequiresRole({ UserRole.EMPLOYEE })
+    @PostMapping(value = "/batch", consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ApiResponseDTO<List<TaskResponseDTO>>> createTasks(
+            @RequestBody @Valid TaskBatchCreateDTO taskBatchCreateDTO, HttpServletRequest request) {
+
+        List<TaskResponseDTO> createdTasks = taskService.createTasks(taskBatchCreateDTO.getTasks());
+
+        ApiResponseDTO<List<TaskResponseDTO>> response = ApiResponseDTO.<List<TaskResponseDTO>>builder()
+                .status("success")
+                .message(createdTasks.size() + " tasks created successfully")
+                .data(createdTasks)
+                .timestamp(Instant.now())
+                .path(request.getRequestURI())
+                .build();
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    // @RequiresRole({ UserRole.EMPLOYEE })
+    @PatchMapping(value = "/{taskId}/status", consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ApiResponseDTO<TaskResponseDTO>> updateTaskStatus(@PathVariable Long taskId,
+            @RequestBody @Valid TaskStatusUpdateDTO taskStatusUpdateDTO, HttpServletRequest request) {
+
+        TaskResponseDTO updatedTask = taskService.updateTaskStatus(taskId, taskStatusUpdateDTO.getStatus());
+
+        ApiResponseDTO<TaskResponseDTO> response = ApiResponseDTO.<TaskResponseDTO>builder()
+                .status("success")
+                .message("Task status updated successfully")
+                .data(updatedTask)
+                .timestamp(Instant.now())
+                .path(request.getRequestURI())
+                .build();
+
+        return ResponseEntity.ok(response);
+    }
 }
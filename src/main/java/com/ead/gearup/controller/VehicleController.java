@@ -13,13 +13,18 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.ead.gearup.dto.vehicle.VehicleCreateDTO;
 import com.ead.gearup.dto.vehicle.VehicleResponseDTO;
 import com.ead.gearup.dto.vehicle.VehicleUpdateDTO;
+import com.ead.gearup.service.VehicleLookupService;
 import com.ead.gearup.service.VehicleService;
+import com.ead.gearup.util.NdjsonResponseWriter;
 import com.ead.gearup.dto.response.ApiResponseDTO;
+import com.ead.gearup.dto.response.CursorPageDTO;
 
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import jakarta.servlet.http.HttpServletRequest;
@@ -33,6 +38,8 @@ import lombok.RequiredArgsConstructor;
 public class VehicleController {
 
     private final VehicleService vehicleService;
+    private final VehicleLookupService vehicleLookupService;
+    private final NdjsonResponseWriter ndjsonResponseWriter;
 
 //     @RequiresRole({ UserRole.CUSTOMER })
     @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
@@ -70,9 +77,57 @@ public class VehicleController {
     }
 
     @GetMapping
-    public ResponseEntity<ApiResponseDTO<List<VehicleResponseDTO>>> getAllVehicles(HttpServletRequest request) {
+    public ResponseEntity<ApiResponseDTO<CursorPageDTO<VehicleResponseDTO>>> getAllVehicles(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            HttpServletRequest request) {
+
+        CursorPageDTO<VehicleResponseDTO> vehicles = vehicleService.getVehiclesPage(cursor, size);
+
+        ApiResponseDTO<CursorPageDTO<VehicleResponseDTO>> response = ApiResponseDTO
+                .<CursorPageDTO<VehicleResponseDTO>>builder()
+                .status("success")
+                .message("Vehicles retrieved successfully")
+                .data(vehicles)
+                .timestamp(Instant.now())
+                .path(request.getRequestURI())
+                .build();
+
+        return ResponseEntity.ok(response);
+    }
+
+    // Exact lookup by plate or VIN; spacing, dashes and case are ignored
+    @GetMapping("/lookup")
+    public ResponseEntity<ApiResponseDTO<VehicleResponseDTO>> lookupVehicle(
+            @RequestParam(required = false) String plate,
+            @RequestParam(required = false) String vin,
+            HttpServletRequest request) {
+
+        if ((plate == null) == (vin == null)) {
+            throw new IllegalArgumentException("Provide exactly one of plate or vin");
+        }
+        VehicleResponseDTO vehicle = plate != null ? vehicleLookupService.findByPlate(plate)
+                : vehicleLookupService.findByVin(vin);
 
-        List<VehicleResponseDTO> vehicles = vehicleService.getAllVehicles();
+        ApiResponseDTO<VehicleResponseDTO> response = ApiResponseDTO.<VehicleResponseDTO>builder()
+                .status("success")
+                .message("Vehicle retrieved successfully")
+                .data(vehicle)
+                .timestamp(Instant.now())
+                .path(request.getRequestURI())
+                .build();
+
+        return ResponseEntity.ok(response);
+    }
+
+    // Type-ahead search on plate / VIN prefixes
+    @GetMapping("/search")
+    public ResponseEntity<ApiResponseDTO<List<VehicleResponseDTO>>> searchVehicles(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int limit,
+            HttpServletRequest request) {
+
+        List<VehicleResponseDTO> vehicles = vehicleLookupService.search(q, limit);
 
         ApiResponseDTO<List<VehicleResponseDTO>> response = ApiResponseDTO.<List<VehicleResponseDTO>>builder()
                 .status("success")
@@ -85,6 +140,11 @@ public class VehicleController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportVehicles() {
+        return ndjsonResponseWriter.stream("vehicles.ndjson", vehicleService::exportVehicles);
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<ApiResponseDTO<Void>> deleteVehicle(@PathVariable Long id, HttpServletRequest request) {
 
@@ -0,0 +1,17 @@
+package com.ead.gearup.dto.appointment;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeAvailabilityDTO {
+    private Long employeeId;
+    private String name;
+    private String specialization;
+    private List<TimeSlotDTO> freeSlots;
+}
@@ -0,0 +1,18 @@
+package com.ead.gearup.dto.appointment;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TimeSlotDTO {
+    private Long employeeId;
+    private LocalDate date;
+    private LocalTime startTime;
+    private LocalTime endTime;
+}
@@ -0,0 +1,36 @@
+package com.ead.gearup.dto.imports;
+
+import java.time.Instant;
+import java.util.List;
+
+import com.ead.gearup.dto.response.ItemErrorDTO;
+import com.ead.gearup.service.imports.ImportStatus;
+import com.ead.gearup.service.imports.ImportType;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Progress of a bulk import. errors holds the first skipped/failed rows
+ * (index is the data row number), capped so large files stay cheap to poll.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportJobDTO {
+    private String jobId;
+    private ImportType type;
+    private ImportStatus status;
+    private String fileName;
+    private long processed;
+    private long imported;
+    private long skipped;
+    private long failed;
+    private List<ItemErrorDTO> errors;
+    private Instant startedAt;
+    private Instant finishedAt;
+    private double rowsPerSecond;
+}
@@ -0,0 +1,24 @@
+package com.ead.gearup.dto.notification;
+
+import java.time.Instant;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Message pushed on /user/queue/status
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StatusUpdateDTO {
+
+    // APPOINTMENT or TASK
+    private String type;
+    private Long appointmentId;
+    private Long taskId;
+    private String status;
+    private String previousStatus;
+    private Instant changedAt;
+}
@@ -0,0 +1,16 @@
+package com.ead.gearup.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Problem with one item of a batch request; index is the item's position in the request.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ItemErrorDTO {
+    private int index;
+    private String message;
+}
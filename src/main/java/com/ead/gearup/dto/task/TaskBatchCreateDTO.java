@@ -0,0 +1,19 @@
+package com.ead.gearup.dto.task;
+
+import java.util.List;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TaskBatchCreateDTO {
+
+    @NotEmpty(message = "At least one task is required")
+    @Size(max = 200, message = "At most 200 tasks per request")
+    private List<TaskCreateDTO> tasks;
+}
@@ -0,0 +1,17 @@
+package com.ead.gearup.dto.task;
+
+import com.ead.gearup.enums.TaskStatus;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TaskStatusUpdateDTO {
+
+    @NotNull(message = "status is required")
+    private TaskStatus status;
+}
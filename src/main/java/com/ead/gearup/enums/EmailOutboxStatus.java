@@ -0,0 +1,7 @@
+package com.ead.gearup.enums;
+
+public enum EmailOutboxStatus {
+    PENDING,
+    SENT,
+    DEAD // gave up after the maximum number of attempts
+}
@@ -0,0 +1,6 @@
+package com.ead.gearup.enums;
+
+public enum EmailType {
+    VERIFICATION,
+    APPOINTMENT_REMINDER
+}
@@ -0,0 +1,7 @@
+package com.ead.gearup.exception;
+
+public class AppointmentConflictException extends RuntimeException {
+    public AppointmentConflictException(String message) {
+        super(message);
+    }
+}
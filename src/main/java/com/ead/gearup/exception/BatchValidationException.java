@@ -0,0 +1,19 @@
+package com.ead.gearup.exception;
+
+import java.util.List;
+
+import com.ead.gearup.dto.response.ItemErrorDTO;
+
+public class BatchValidationException extends RuntimeException {
+
+    private final List<ItemErrorDTO> errors;
+
+    public BatchValidationException(String message, List<ItemErrorDTO> errors) {
+        super(message);
+        this.errors = errors;
+    }
+
+    public List<ItemErrorDTO> getErrors() {
+        return errors;
+    }
+}
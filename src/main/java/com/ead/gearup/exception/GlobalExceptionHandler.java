@@ -5,6 +5,7 @@ import com.ead.gearup.dto.response.ApiResponseDTO;
 import io.jsonwebtoken.ExpiredJwtException;
 import jakarta.servlet.http.HttpServletRequest;
 
+import org.hibernate.exception.ConstraintViolationException;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -15,11 +16,20 @@ import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 
 import java.time.Instant;
+import java.util.Locale;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @ControllerAdvice
 public class GlobalExceptionHandler {
 
+    // Named unique constraints (see the entities' @Table) and the message for a duplicate
+    private static final Map<String, String> UNIQUE_CONSTRAINT_MESSAGES = Map.of(
+            "uk_vehicle_vin", "Vehicle with this VIN already exists",
+            "uk_vehicle_license_plate", "Vehicle with this license plate already exists",
+            "uk_vehicle_vin_canonical", "Vehicle with this VIN already exists",
+            "uk_vehicle_plate_canonical", "Vehicle with this license plate already exists");
+
     // Handle validation errors (@Valid)
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ApiResponseDTO<Object>> handleValidationException(
@@ -196,6 +206,74 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
     }
     
+    // Handle task not found exception
+    @ExceptionHandler(TaskNotFoundException.class)
+    public ResponseEntity<ApiResponseDTO<Object>> handleTaskNotFound(
+            TaskNotFoundException ex,
+            HttpServletRequest request) {
+
+        ApiResponseDTO<Object> response = ApiResponseDTO.builder()
+                .status("error")
+                .message(ex.getMessage())
+                .timestamp(Instant.now())
+                .path(request.getRequestURI())
+                .data(null)
+                .build();
+
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
+    }
+
+    // Handle mechanic double-booking
+    @ExceptionHandler(AppointmentConflictException.class)
+    public ResponseEntity<ApiResponseDTO<Object>> handleAppointmentConflict(
+            AppointmentConflictException ex,
+            HttpServletRequest request) {
+
+        ApiResponseDTO<Object> response = ApiResponseDTO.builder()
+                .status("error")
+                .message(ex.getMessage())
+                .timestamp(Instant.now())
+                .path(request.getRequestURI())
+                .data(null)
+                .build();
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+    }
+
+    // Handle batch requests with invalid items; data lists the problem with each item
+    @ExceptionHandler(BatchValidationException.class)
+    public ResponseEntity<ApiResponseDTO<Object>> handleBatchValidation(
+            BatchValidationException ex,
+            HttpServletRequest request) {
+
+        ApiResponseDTO<Object> response = ApiResponseDTO.builder()
+                .status("error")
+                .message(ex.getMessage())
+                .timestamp(Instant.now())
+                .path(request.getRequestURI())
+                .data(ex.getErrors())
+                .build();
+
+        return ResponseEntity.badRequest().body(response);
+    }
+
+    // Handle unknown (or expired) import job
+    @ExceptionHandler(ImportJobNotFoundException.class)
+    public ResponseEntity<ApiResponseDTO<Object>> handleImportJobNotFound(
+            ImportJobNotFoundException ex,
+            HttpServletRequest request) {
+
+        ApiResponseDTO<Object> response = ApiResponseDTO.builder()
+                .status("error")
+                .message(ex.getMessage())
+                .timestamp(Instant.now())
+                .path(request.getRequestURI())
+                .data(null)
+                .build();
+
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
+    }
+
     // Handle email not verified exception
     @ExceptionHandler(EmailNotVerifiedException.class)
     public ResponseEntity<ApiResponseDTO<Object>> handleEmailNotVerified(
@@ -287,15 +365,33 @@ public class GlobalExceptionHandler {
             DataIntegrityViolationException ex,
             HttpServletRequest request) {
 
+        // Known unique keys become a 409 with a readable message
+        String conflict = uniqueConflictMessage(ex);
+
         ApiResponseDTO<Object> response = ApiResponseDTO.builder()
                 .status("error")
-                .message("Database constraint violation: " + ex.getMostSpecificCause().getMessage())
+                .message(conflict != null ? conflict
+                        : "Database constraint violation: " + ex.getMostSpecificCause().getMessage())
                 .timestamp(Instant.now())
                 .path(request.getRequestURI())
                 .data(null)
                 .build();
 
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+        return ResponseEntity.status(conflict != null ? HttpStatus.CONFLICT : HttpStatus.BAD_REQUEST).body(response);
+    }
+
+    private static String uniqueConflictMessage(DataIntegrityViolationException ex) {
+        if (!(ex.getCause() instanceof ConstraintViolationException violation)
+                || violation.getConstraintName() == null) {
+            return null;
+        }
+        // Some dialects report the backing index name (e.g. uk_vehicle_vin_index_1 on H2)
+        String constraintName = violation.getConstraintName().toLowerCase(Locale.ROOT);
+        return UNIQUE_CONSTRAINT_MESSAGES.entrySet().stream()
+                .filter(entry -> constraintName.contains(entry.getKey()))
+                .map(Map.Entry::getValue)
+                .findFirst()
+                .orElse(null);
     }
 
     // Handle expired JWT token
@@ -0,0 +1,7 @@
+package com.ead.gearup.exception;
+
+public class TaskNotFoundException extends RuntimeException {
+    public TaskNotFoundException(String message) {
+        super(message);
+    }
+}
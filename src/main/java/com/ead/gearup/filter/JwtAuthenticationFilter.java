@@ -1,5 +1,6 @@
 package com.ead.gearup.filter;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -9,6 +10,8 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import com.ead.gearup.service.auth.CustomUserDetailsService;
 import com.ead.gearup.service.auth.JwtService;
+import com.ead.gearup.service.auth.TokenRevocationService;
+import com.ead.gearup.service.auth.VerifiedToken;
 
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -18,6 +21,7 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 
 import java.io.IOException;
+import java.time.Instant;
 
 @Component
 @RequiredArgsConstructor
@@ -25,6 +29,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
     private final CustomUserDetailsService customUserDetailsService;
+    private final TokenRevocationService tokenRevocationService;
+
+    // Opt-in: trust verified access token claims instead of loading the user per request
+    @Value("${jwt.stateless-auth.enabled:false}")
+    private boolean statelessAuthEnabled;
+
+    // Tokens older than this are re-checked against the database even in stateless mode
+    @Value("${jwt.stateless-auth.max-token-age:3600000}")
+    private long statelessMaxTokenAgeMillis;
 
     @SuppressWarnings("null")
     @Override
@@ -32,16 +45,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             throws ServletException, IOException {
 
         String authHeader = request.getHeader("Authorization");
-        String token = null;
-        String username = null;
+        VerifiedToken token = null;
 
         if (authHeader != null && authHeader.startsWith("Bearer ")) {
-            token = authHeader.substring(7);
-            username = jwtService.extractUsername(token);
+            // Single parse: signature, expiry and claims are checked once per request
+            token = jwtService.verify(authHeader.substring(7));
         }
 
-        if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = customUserDetailsService.loadUserByUsername(username);
+        if (token != null && token.subject() != null
+                && SecurityContextHolder.getContext().getAuthentication() == null) {
+            UserDetails userDetails = resolveUserDetails(token);
 
             if (jwtService.validateAccessToken(token, userDetails)) {
                 UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
@@ -56,4 +69,20 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         filterChain.doFilter(request, response);
     }
+
+    private UserDetails resolveUserDetails(VerifiedToken token) {
+        if (canTrustClaims(token)) {
+            return customUserDetailsService.loadUserFromToken(token);
+        }
+        return customUserDetailsService.loadUserByUsername(token.subject());
+    }
+
+    private boolean canTrustClaims(VerifiedToken token) {
+        return statelessAuthEnabled
+                && token.isAccessToken()
+                && token.hasIdentityClaims()
+                && token.issuedAt() != null
+                && token.issuedAt().isAfter(Instant.now().minusMillis(statelessMaxTokenAgeMillis))
+                && !tokenRevocationService.isRevoked(token);
+    }
 }
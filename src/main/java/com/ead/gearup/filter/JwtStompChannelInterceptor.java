@@ -0,0 +1,82 @@
+package com.ead.gearup.filter;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import com.ead.gearup.service.auth.CustomUserDetailsService;
+import com.ead.gearup.service.auth.JwtService;
+import com.ead.gearup.service.auth.TokenRevocationService;
+import com.ead.gearup.service.auth.VerifiedToken;
+
+import io.jsonwebtoken.JwtException;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Authenticates STOMP sessions with the same JWT access tokens as the REST API.
+ * The token is checked once, on CONNECT; the resulting user is attached to the
+ * session and used to route user-queue messages. Subscriptions are limited to
+ * the session's own user queues and clients may not send.
+ */
+@Component
+@RequiredArgsConstructor
+public class JwtStompChannelInterceptor implements ChannelInterceptor {
+
+    private static final String USER_QUEUE_PREFIX = "/user/queue/";
+
+    private final JwtService jwtService;
+    private final CustomUserDetailsService customUserDetailsService;
+    private final TokenRevocationService tokenRevocationService;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() == null) {
+            return message;
+        }
+
+        StompCommand command = accessor.getCommand();
+        if (command == StompCommand.CONNECT) {
+            accessor.setUser(authenticate(accessor.getFirstNativeHeader("Authorization")));
+        } else if (command == StompCommand.SUBSCRIBE) {
+            String destination = accessor.getDestination();
+            if (accessor.getUser() == null || destination == null || !destination.startsWith(USER_QUEUE_PREFIX)) {
+                throw new AccessDeniedException("Cannot subscribe to " + destination);
+            }
+        } else if (command == StompCommand.SEND) {
+            throw new AccessDeniedException("Sending is not supported on this connection");
+        }
+        return message;
+    }
+
+    private UsernamePasswordAuthenticationToken authenticate(String authHeader) {
+        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+            throw new BadCredentialsException("Missing bearer token");
+        }
+
+        VerifiedToken token;
+        try {
+            token = jwtService.verify(authHeader.substring(7));
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new BadCredentialsException("Invalid token");
+        }
+        // Sessions outlive requests, so tokens revoked by a logout or role change are refused here
+        if (token.subject() == null || (token.userId() != null && tokenRevocationService.isRevoked(token))) {
+            throw new BadCredentialsException("Invalid token");
+        }
+
+        UserDetails userDetails = customUserDetailsService.loadUserByUsername(token.subject());
+        if (!jwtService.validateAccessToken(token, userDetails)) {
+            throw new BadCredentialsException("Invalid token");
+        }
+        return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+    }
+}
@@ -0,0 +1,72 @@
+package com.ead.gearup.filter;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import com.ead.gearup.util.SqlStatementStats;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Outermost filter: opens a statement-count scope for the request (so the JWT
+ * filter's lookups are included) and records the totals per controller method.
+ * Rows streamed on async threads after the handler returns are not counted.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.sql-metrics.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlMetricsFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        SqlStatementStats stats = SqlStatementStats.begin();
+        request.setAttribute(SqlStatementStats.REQUEST_ATTRIBUTE, stats);
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            SqlStatementStats.end();
+
+            String handler = handlerName(request);
+            DistributionSummary.builder("gearup.sql.statements")
+                    .description("SQL statements executed per request")
+                    .tag("handler", handler)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry)
+                    .record(stats.getCount());
+            Timer.builder("gearup.sql.time")
+                    .description("Time spent executing SQL per request")
+                    .tag("handler", handler)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry)
+                    .record(stats.getElapsedMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private String handlerName(HttpServletRequest request) {
+        Object handler = request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE);
+        if (handler instanceof HandlerMethod method) {
+            return method.getBeanType().getSimpleName() + "." + method.getMethod().getName();
+        }
+        return "none";
+    }
+}
@@ -17,11 +17,13 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -29,7 +31,16 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "appointment")
+// Composite indexes back the keyset listing: each filter column followed by the sort key
+@Table(name = "appointment", indexes = {
+        @Index(name = "idx_appointment_date_id", columnList = "date, appointment_id"),
+        @Index(name = "idx_appointment_customer_date_id", columnList = "customer_id, date, appointment_id"),
+        @Index(name = "idx_appointment_vehicle_date_id", columnList = "vehicle_id, date, appointment_id"),
+        @Index(name = "idx_appointment_mechanic_date_id", columnList = "mechanic_id, date, appointment_id"),
+        @Index(name = "idx_appointment_status_date_id", columnList = "status, date, appointment_id"),
+        // Reminder scan: unreminded rows (NULL) by start date and time
+        @Index(name = "idx_appointment_reminder_due", columnList = "reminder_sent_at, date, start_time")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -37,7 +48,8 @@ import lombok.NoArgsConstructor;
 public class Appointment {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "appointment_seq")
+    @SequenceGenerator(name = "appointment_seq", sequenceName = "appointment_seq", allocationSize = 50)
     private Long appointmentId;
 
     @Column(nullable = false)
@@ -54,6 +66,9 @@ public class Appointment {
 
     private String notes;
 
+    // Set when the reminder email is queued; a reminder goes out at most once
+    private LocalDateTime reminderSentAt;
+
     private LocalDateTime createdAt;
 
     private LocalDateTime updatedAt;
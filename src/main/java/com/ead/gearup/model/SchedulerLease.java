@@ -0,0 +1,33 @@
+package com.ead.gearup.model;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Leadership lease for a scheduled job shared by all nodes: the node named in
+ * owner runs the job until leaseUntil, then must renew it or let another take over.
+ */
+@Entity
+@Table(name = "scheduler_lease")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SchedulerLease {
+
+    @Id
+    @Column(length = 100)
+    private String name;
+
+    @Column(nullable = false)
+    private String owner;
+
+    @Column(nullable = false)
+    private LocalDateTime leaseUntil;
+}
@@ -7,13 +7,22 @@ import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
-import lombok.RequiredArgsConstructor;
-
-@RequiredArgsConstructor
 public class UserPrinciple implements UserDetails {
 
     private final User user;
 
+    // Customer/employee id taken from the access token; null when loaded from the database
+    private final Long entityId;
+
+    public UserPrinciple(User user) {
+        this(user, null);
+    }
+
+    public UserPrinciple(User user, Long entityId) {
+        this.user = user;
+        this.entityId = entityId;
+    }
+
     public Long getUserId() {
         return user.getUserId();
     }
@@ -22,6 +31,10 @@ public class UserPrinciple implements UserDetails {
         return user;
     }
 
+    public Long getEntityId() {
+        return entityId;
+    }
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         return List.of(new SimpleGrantedAuthority("ROLE_" + this.user.getRole().name()));
@@ -10,10 +10,17 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import com.ead.gearup.util.VehicleKeys;
+
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -24,19 +31,44 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 @Entity
 @Builder
-@Table(name = "vehicle")
+// Named so GlobalExceptionHandler can tell which key a duplicate insert/update hit.
+// The canonical forms are unique too: "AB-1234" and "AB 1234" are the same plate
+@Table(name = "vehicle", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_vehicle_vin", columnNames = "vin"),
+        @UniqueConstraint(name = "uk_vehicle_license_plate", columnNames = "license_plate"),
+        @UniqueConstraint(name = "uk_vehicle_vin_canonical", columnNames = "vin_canonical"),
+        @UniqueConstraint(name = "uk_vehicle_plate_canonical", columnNames = "plate_canonical")
+}, indexes = {
+        @Index(name = "idx_vehicle_plate_key", columnList = "plate_key"),
+        @Index(name = "idx_vehicle_vin_key", columnList = "vin_key")
+})
 public class Vehicle {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "vehicle_seq")
+    @SequenceGenerator(name = "vehicle_seq", sequenceName = "vehicle_seq", allocationSize = 50)
     private Long vehicleId;
 
-    @Column(unique = true, nullable = false)
+    @Column(nullable = false)
     private String vin;
 
-    @Column(unique = true, nullable = false)
+    @Column(nullable = false)
     private String licensePlate;
 
+    // Keys used by VehicleLookupService (see VehicleKeys), recomputed on every write:
+    // canonical forms for uniqueness and exact lookups, ASCII keys for prefix search
+    @Column(name = "vin_canonical")
+    private String vinCanonical;
+
+    @Column(name = "plate_canonical")
+    private String plateCanonical;
+
+    @Column(name = "vin_key")
+    private String vinKey;
+
+    @Column(name = "plate_key")
+    private String plateKey;
+
     private Integer year;
 
     private String model;
@@ -50,4 +82,13 @@ public class Vehicle {
     @OneToMany(mappedBy = "vehicle", fetch = FetchType.LAZY, cascade = CascadeType.ALL, orphanRemoval = true)
     @Builder.Default
     private List<Appointment> appointments = new ArrayList<>();
+
+    @PrePersist
+    @PreUpdate
+    public void normalizeKeys() {
+        vinCanonical = VehicleKeys.canonical(vin);
+        plateCanonical = VehicleKeys.canonical(licensePlate);
+        vinKey = VehicleKeys.normalize(vin);
+        plateKey = VehicleKeys.normalize(licensePlate);
+    }
 }
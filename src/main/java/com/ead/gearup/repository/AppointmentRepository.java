@@ -1,11 +1,93 @@
 package com.ead.gearup.repository;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.ead.gearup.enums.AppointmentStatus;
 import com.ead.gearup.model.Appointment;
+import com.ead.gearup.service.scheduling.AppointmentReminder;
+import com.ead.gearup.service.scheduling.BookedSlot;
 
 @Repository
-public interface AppointmentRepository extends JpaRepository<Appointment, Long> {
+public interface AppointmentRepository extends JpaRepository<Appointment, Long>, JpaSpecificationExecutor<Appointment> {
+
+    // Loads the task list with the appointment so the response can be built outside a session
+    @EntityGraph(attributePaths = "tasks")
+    Optional<Appointment> findWithTasksByAppointmentId(Long appointmentId);
+
+    // Mechanic bookings (assigned, timed, not in the excluded status) from a given day onwards
+    @Query("SELECT new com.ead.gearup.service.scheduling.BookedSlot("
+            + "a.appointmentId, a.employee.employeeId, a.date, a.startTime, a.endTime) "
+            + "FROM Appointment a "
+            + "WHERE a.employee IS NOT NULL AND a.startTime IS NOT NULL AND a.endTime IS NOT NULL "
+            + "AND a.status <> :excludedStatus AND a.date >= :from")
+    List<BookedSlot> findBookedSlotsFrom(@Param("from") LocalDate from,
+            @Param("excludedStatus") AppointmentStatus excludedStatus);
+
+    @Query("SELECT new com.ead.gearup.service.scheduling.BookedSlot("
+            + "a.appointmentId, a.employee.employeeId, a.date, a.startTime, a.endTime) "
+            + "FROM Appointment a "
+            + "WHERE a.appointmentId IN :ids AND a.employee IS NOT NULL "
+            + "AND a.startTime IS NOT NULL AND a.endTime IS NOT NULL AND a.status <> :excludedStatus")
+    List<BookedSlot> findBookedSlotsByIds(@Param("ids") Collection<Long> ids,
+            @Param("excludedStatus") AppointmentStatus excludedStatus);
+
+    // Other bookings of the mechanic overlapping [start, end) on the day, straight from the table
+    @Query("SELECT COUNT(a) > 0 FROM Appointment a "
+            + "WHERE a.employee.employeeId = :employeeId AND a.date = :date "
+            + "AND a.startTime < :end AND a.endTime > :start "
+            + "AND a.appointmentId <> :excludeId AND a.status <> :excludedStatus")
+    boolean existsOverlappingBooking(@Param("employeeId") Long employeeId, @Param("date") LocalDate date,
+            @Param("start") LocalTime start, @Param("end") LocalTime end, @Param("excludeId") Long excludeId,
+            @Param("excludedStatus") AppointmentStatus excludedStatus);
+
+    /*
+     * Active appointments starting in [from, to] that have no reminder yet, as a
+     * range seek on idx_appointment_reminder_due. Every row returned is due and gets
+     * marked, so pages need no ORDER BY (which would force a sort of the whole window)
+     * and no offset: the next call simply finds the rows still unmarked.
+     */
+    @Query("SELECT new com.ead.gearup.service.scheduling.AppointmentReminder("
+            + "a.appointmentId, a.date, a.startTime, u.email, u.name, v.licensePlate, v.model) "
+            + "FROM Appointment a JOIN a.customer c JOIN c.user u JOIN a.vehicle v "
+            + "WHERE a.reminderSentAt IS NULL AND a.date BETWEEN :fromDate AND :toDate "
+            + "AND a.startTime IS NOT NULL "
+            + "AND (a.date > :fromDate OR a.startTime >= :fromTime) "
+            + "AND (a.date < :toDate OR a.startTime <= :toTime) "
+            + "AND a.status NOT IN :excludedStatuses")
+    List<AppointmentReminder> findRemindersDue(@Param("fromDate") LocalDate fromDate,
+            @Param("fromTime") LocalTime fromTime, @Param("toDate") LocalDate toDate,
+            @Param("toTime") LocalTime toTime,
+            @Param("excludedStatuses") Collection<AppointmentStatus> excludedStatuses, Limit limit);
+
+    // Only rows nobody has reminded yet; a count short of ids.size() means another run got there first
+    @Modifying
+    @Query("UPDATE Appointment a SET a.reminderSentAt = :sentAt "
+            + "WHERE a.appointmentId IN :ids AND a.reminderSentAt IS NULL")
+    int markReminded(@Param("ids") Collection<Long> ids, @Param("sentAt") LocalDateTime sentAt);
+
+    // Who gets pushed status changes for an appointment; mechanicEmail is null when unassigned
+    @Query("SELECT cu.email AS customerEmail, eu.email AS mechanicEmail "
+            + "FROM Appointment a JOIN a.customer c JOIN c.user cu LEFT JOIN a.employee e LEFT JOIN e.user eu "
+            + "WHERE a.appointmentId = :appointmentId")
+    Optional<StatusRecipients> findStatusRecipients(@Param("appointmentId") Long appointmentId);
+
+    interface StatusRecipients {
+        String getCustomerEmail();
 
+        String getMechanicEmail();
+    }
 }
@@ -0,0 +1,60 @@
+package com.ead.gearup.repository;
+
+import java.time.LocalDate;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.ead.gearup.enums.AppointmentStatus;
+import com.ead.gearup.model.Appointment;
+
+/**
+ * Filters for the appointment listing. Each one is a no-op when its argument is
+ * null, so they can be combined freely.
+ */
+public final class AppointmentSpecifications {
+
+    private AppointmentSpecifications() {
+    }
+
+    public static Specification<Appointment> dateFrom(LocalDate from) {
+        return (root, query, cb) -> from == null ? null : cb.greaterThanOrEqualTo(root.get("date"), from);
+    }
+
+    public static Specification<Appointment> dateTo(LocalDate to) {
+        return (root, query, cb) -> to == null ? null : cb.lessThanOrEqualTo(root.get("date"), to);
+    }
+
+    public static Specification<Appointment> hasStatus(AppointmentStatus status) {
+        return (root, query, cb) -> status == null ? null : cb.equal(root.get("status"), status);
+    }
+
+    // Compare the foreign key columns directly; no joins are needed
+    public static Specification<Appointment> forCustomer(Long customerId) {
+        return (root, query, cb) -> customerId == null ? null
+                : cb.equal(root.get("customer").get("customerId"), customerId);
+    }
+
+    public static Specification<Appointment> forVehicle(Long vehicleId) {
+        return (root, query, cb) -> vehicleId == null ? null
+                : cb.equal(root.get("vehicle").get("vehicleId"), vehicleId);
+    }
+
+    public static Specification<Appointment> forEmployee(Long employeeId) {
+        return (root, query, cb) -> employeeId == null ? null
+                : cb.equal(root.get("employee").get("employeeId"), employeeId);
+    }
+
+    /*
+     * Keyset predicate for the (date DESC, appointmentId DESC) ordering: rows strictly
+     * after the last row of the previous page. Criteria has no row-value comparison,
+     * so it is spelled out as date < d OR (date = d AND appointmentId < id)
+     */
+    public static Specification<Appointment> after(LocalDate date, Long appointmentId) {
+        return (root, query, cb) -> date == null ? null
+                : cb.or(
+                        cb.lessThan(root.get("date"), date),
+                        cb.and(
+                                cb.equal(root.get("date"), date),
+                                cb.lessThan(root.get("appointmentId"), appointmentId)));
+    }
+}
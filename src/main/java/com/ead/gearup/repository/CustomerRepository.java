@@ -1,16 +1,52 @@
 package com.ead.gearup.repository;
 
+import com.ead.gearup.dto.customer.CustomerResponseDTO;
 import com.ead.gearup.model.Customer;
 import com.ead.gearup.model.User;
 
+import jakarta.persistence.QueryHint;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface CustomerRepository extends JpaRepository<Customer, Long> {
     Optional<Customer> findByUserEmail(String email);
 
     Optional<Customer> findByUser(User user);
-}
\ No newline at end of file
+
+    // Customer ids for a set of lowercased owner emails, in one query (bulk vehicle import)
+    @Query("SELECT u.email AS email, c.customerId AS customerId FROM Customer c JOIN c.user u WHERE u.email IN :emails")
+    List<CustomerIdByEmail> findIdsByEmails(@Param("emails") Collection<String> emails);
+
+    interface CustomerIdByEmail {
+        String getEmail();
+
+        Long getCustomerId();
+    }
+
+    // Listing rows are read straight into DTOs, so they never enter the persistence context
+    @Query("SELECT new com.ead.gearup.dto.customer.CustomerResponseDTO("
+            + "c.customerId, u.name, u.email, c.phoneNumber) "
+            + "FROM Customer c JOIN c.user u "
+            + "WHERE c.customerId > :afterId "
+            + "ORDER BY c.customerId")
+    List<CustomerResponseDTO> findPage(@Param("afterId") Long afterId, Limit limit);
+
+    @Query("SELECT new com.ead.gearup.dto.customer.CustomerResponseDTO("
+            + "c.customerId, u.name, u.email, c.phoneNumber) "
+            + "FROM Customer c JOIN c.user u "
+            + "ORDER BY c.customerId")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<CustomerResponseDTO> streamAll();
+}
@@ -0,0 +1,35 @@
+package com.ead.gearup.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.ead.gearup.enums.EmailOutboxStatus;
+import com.ead.gearup.model.EmailOutbox;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
+@Repository
+public interface EmailOutboxRepository extends JpaRepository<EmailOutbox, Long> {
+
+    // FOR UPDATE SKIP LOCKED (lock timeout -2): concurrent dispatchers claim disjoint rows
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT e FROM EmailOutbox e WHERE e.status = :status AND e.nextAttemptAt <= :now "
+            + "ORDER BY e.nextAttemptAt")
+    List<EmailOutbox> findDueForUpdate(@Param("status") EmailOutboxStatus status, @Param("now") LocalDateTime now,
+            Limit limit);
+
+    @Modifying
+    @Query("DELETE FROM EmailOutbox e WHERE e.status = :status AND e.sentAt < :before")
+    int deleteSentBefore(@Param("status") EmailOutboxStatus status, @Param("before") LocalDateTime before);
+}
@@ -1,15 +1,62 @@
 package com.ead.gearup.repository;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.ead.gearup.dto.employee.EmployeeResponseDTO;
 import com.ead.gearup.model.Employee;
 import com.ead.gearup.model.User;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface EmployeeRepository extends JpaRepository<Employee, Long> {
 
     Optional<Employee> findByUser(User user);
+
+    // Row lock held until commit; serialises bookings of one mechanic across nodes
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT e FROM Employee e WHERE e.employeeId = :employeeId")
+    Optional<Employee> lockById(@Param("employeeId") Long employeeId);
+
+    // Listing rows are read straight into DTOs, so they never enter the persistence context
+    @Query("SELECT new com.ead.gearup.dto.employee.EmployeeResponseDTO("
+            + "e.employeeId, u.name, u.email, e.specialization, e.hireDate, e.createdAt, e.updatedAt) "
+            + "FROM Employee e JOIN e.user u "
+            + "WHERE e.employeeId > :afterId "
+            + "ORDER BY e.employeeId")
+    List<EmployeeResponseDTO> findPage(@Param("afterId") Long afterId, Limit limit);
+
+    @Query("SELECT new com.ead.gearup.dto.employee.EmployeeResponseDTO("
+            + "e.employeeId, u.name, u.email, e.specialization, e.hireDate, e.createdAt, e.updatedAt) "
+            + "FROM Employee e JOIN e.user u "
+            + "ORDER BY e.employeeId")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<EmployeeResponseDTO> streamAll();
+
+    // Lightweight listing for availability searches; specialization match is case-insensitive
+    @Query("SELECT e.employeeId AS employeeId, u.name AS name, e.specialization AS specialization "
+            + "FROM Employee e JOIN e.user u "
+            + "WHERE :specialization IS NULL OR LOWER(e.specialization) = LOWER(:specialization) "
+            + "ORDER BY e.employeeId")
+    List<EmployeeSummary> findSummaries(@Param("specialization") String specialization);
+
+    interface EmployeeSummary {
+        Long getEmployeeId();
+
+        String getName();
+
+        String getSpecialization();
+    }
 }
@@ -0,0 +1,26 @@
+package com.ead.gearup.repository;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.ead.gearup.model.SchedulerLease;
+
+@Repository
+public interface SchedulerLeaseRepository extends JpaRepository<SchedulerLease, String> {
+
+    // Renews our own lease or takes over an expired one, as one atomic row update
+    @Modifying
+    @Query("UPDATE SchedulerLease l SET l.owner = :owner, l.leaseUntil = :until "
+            + "WHERE l.name = :name AND (l.owner = :owner OR l.leaseUntil < :now)")
+    int acquire(@Param("name") String name, @Param("owner") String owner, @Param("now") LocalDateTime now,
+            @Param("until") LocalDateTime until);
+
+    @Modifying
+    @Query("UPDATE SchedulerLease l SET l.leaseUntil = :now WHERE l.name = :name AND l.owner = :owner")
+    int release(@Param("name") String name, @Param("owner") String owner, @Param("now") LocalDateTime now);
+}
@@ -1,6 +1,11 @@
 package com.ead.gearup.repository;
 
+import java.util.Collection;
+import java.util.List;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.ead.gearup.model.Task;
@@ -8,4 +13,16 @@ import com.ead.gearup.model.Task;
 @Repository
 public interface TaskRepository extends JpaRepository<Task, Long> {
 
+    // Task ids for a whole page of appointments in one round trip
+    @Query("SELECT t.appointment.appointmentId AS appointmentId, t.taskId AS taskId "
+            + "FROM Task t "
+            + "WHERE t.appointment.appointmentId IN :appointmentIds "
+            + "ORDER BY t.taskId")
+    List<AppointmentTaskId> findTaskIdsByAppointmentIds(@Param("appointmentIds") Collection<Long> appointmentIds);
+
+    interface AppointmentTaskId {
+        Long getAppointmentId();
+
+        Long getTaskId();
+    }
 }
@@ -1,8 +1,14 @@
 package com.ead.gearup.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.ead.gearup.model.User;
@@ -10,4 +16,13 @@ import com.ead.gearup.model.User;
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
+
+    @Modifying
+    @Query("UPDATE User u SET u.lastLogin = :lastLogin WHERE u.userId = :userId")
+    int updateLastLogin(@Param("userId") Long userId, @Param("lastLogin") LocalDateTime lastLogin);
+
+    // Which of these emails are already taken, in one query (bulk import dedupe). Stored emails are
+    // lowercase, so callers lowercase theirs and the lookup stays on the unique index
+    @Query("SELECT u.email FROM User u WHERE u.email IN :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
 }
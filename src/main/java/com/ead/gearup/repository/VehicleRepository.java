@@ -1,20 +1,72 @@
 package com.ead.gearup.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.ead.gearup.dto.vehicle.VehicleResponseDTO;
 import com.ead.gearup.model.Vehicle;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface VehicleRepository extends JpaRepository<Vehicle, Long> {
-    Optional<Vehicle> findByVin(String vin);
+    // Which of these canonical VINs / plates are already registered, in one query each (bulk import dedupe)
+    @Query("SELECT v.vinCanonical FROM Vehicle v WHERE v.vinCanonical IN :keys")
+    List<String> findExistingCanonicalVins(@Param("keys") Collection<String> keys);
+
+    @Query("SELECT v.plateCanonical FROM Vehicle v WHERE v.plateCanonical IN :keys")
+    List<String> findExistingCanonicalPlates(@Param("keys") Collection<String> keys);
+
+    // Exact lookups on the canonical forms (see VehicleKeys), unique per vehicle
+    @Query("SELECT new com.ead.gearup.dto.vehicle.VehicleResponseDTO("
+            + "v.vehicleId, v.vin, v.licensePlate, v.year, v.model, v.make) "
+            + "FROM Vehicle v WHERE v.plateCanonical = :key")
+    Optional<VehicleResponseDTO> findByPlateCanonical(@Param("key") String key);
 
-    Optional<Vehicle> findByLicensePlate(String licensePlate);
+    @Query("SELECT new com.ead.gearup.dto.vehicle.VehicleResponseDTO("
+            + "v.vehicleId, v.vin, v.licensePlate, v.year, v.model, v.make) "
+            + "FROM Vehicle v WHERE v.vinCanonical = :key")
+    Optional<VehicleResponseDTO> findByVinCanonical(@Param("key") String key);
 
-    boolean existsByLicensePlateAndVehicleIdNot(String licensePlate, Long vehicleId);
+    // Prefix search is a range scan on the ASCII keys' indexes
+    @Query("SELECT new com.ead.gearup.dto.vehicle.VehicleResponseDTO("
+            + "v.vehicleId, v.vin, v.licensePlate, v.year, v.model, v.make) "
+            + "FROM Vehicle v WHERE v.plateKey BETWEEN :from AND :to ORDER BY v.plateKey")
+    List<VehicleResponseDTO> findByPlateKeyRange(@Param("from") String from, @Param("to") String to, Limit limit);
 
-    boolean existsByVinAndVehicleIdNot(String vin, Long vehicleId);
+    @Query("SELECT new com.ead.gearup.dto.vehicle.VehicleResponseDTO("
+            + "v.vehicleId, v.vin, v.licensePlate, v.year, v.model, v.make) "
+            + "FROM Vehicle v WHERE v.vinKey BETWEEN :from AND :to ORDER BY v.vinKey")
+    List<VehicleResponseDTO> findByVinKeyRange(@Param("from") String from, @Param("to") String to, Limit limit);
 
+    // Rows written before the key columns existed
+    @Query("SELECT v FROM Vehicle v WHERE v.plateKey IS NULL OR v.vinKey IS NULL "
+            + "OR v.plateCanonical IS NULL OR v.vinCanonical IS NULL")
+    List<Vehicle> findWithoutKeys(Limit limit);
+
+    // Listing rows are read straight into DTOs, so they never enter the persistence context
+    @Query("SELECT new com.ead.gearup.dto.vehicle.VehicleResponseDTO("
+            + "v.vehicleId, v.vin, v.licensePlate, v.year, v.model, v.make) "
+            + "FROM Vehicle v "
+            + "WHERE v.vehicleId > :afterId "
+            + "ORDER BY v.vehicleId")
+    List<VehicleResponseDTO> findPage(@Param("afterId") Long afterId, Limit limit);
+
+    @Query("SELECT new com.ead.gearup.dto.vehicle.VehicleResponseDTO("
+            + "v.vehicleId, v.vin, v.licensePlate, v.year, v.model, v.make) "
+            + "FROM Vehicle v "
+            + "ORDER BY v.vehicleId")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<VehicleResponseDTO> streamAll();
 }
+
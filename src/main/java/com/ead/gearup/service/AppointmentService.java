@@ -1,21 +1,53 @@
 package com.ead.gearup.service;
 
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import com.ead.gearup.dto.appointment.AppointmentCreateDTO;
 import com.ead.gearup.dto.appointment.AppointmentResponseDTO;
 import com.ead.gearup.dto.appointment.AppointmentUpdateDTO;
+import com.ead.gearup.dto.appointment.EmployeeAvailabilityDTO;
+import com.ead.gearup.dto.appointment.TimeSlotDTO;
+import com.ead.gearup.dto.response.CursorPageDTO;
+import com.ead.gearup.enums.AppointmentStatus;
+import com.ead.gearup.enums.UserRole;
+import com.ead.gearup.exception.AppointmentConflictException;
 import com.ead.gearup.exception.AppointmentNotFoundException;
 import com.ead.gearup.exception.CustomerNotFoundException;
+import com.ead.gearup.exception.EmployeeNotFoundException;
 import com.ead.gearup.exception.VehicleNotFoundException;
 import com.ead.gearup.model.Appointment;
 import com.ead.gearup.model.Customer;
 import com.ead.gearup.model.Vehicle;
 import com.ead.gearup.repository.AppointmentRepository;
+import com.ead.gearup.repository.AppointmentSpecifications;
 import com.ead.gearup.repository.CustomerRepository;
+import com.ead.gearup.repository.EmployeeRepository;
+import com.ead.gearup.repository.TaskRepository;
 import com.ead.gearup.repository.VehicleRepository;
 import com.ead.gearup.service.auth.CurrentUserService;
+import com.ead.gearup.service.auth.RoleBasedAccessService;
+import com.ead.gearup.service.notification.StatusChangedEvent;
+import com.ead.gearup.service.scheduling.AppointmentSlotIndex;
+import com.ead.gearup.service.scheduling.BookedSlot;
+import com.ead.gearup.service.scheduling.TimeSlot;
 import com.ead.gearup.util.AppointmentDTOConverter;
+import com.ead.gearup.util.CursorToken;
 
 import lombok.RequiredArgsConstructor;
 
@@ -23,16 +55,30 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class AppointmentService {
 
+    private static final Sort LISTING_ORDER = Sort.by(Sort.Order.desc("date"), Sort.Order.desc("appointmentId"));
+
     private final CurrentUserService currentUserService;
+    private final RoleBasedAccessService roleBasedAccessService;
     private final CustomerRepository customerRepository;
     private final VehicleRepository vehicleRepository;
+    private final EmployeeRepository employeeRepository;
     private final AppointmentDTOConverter converter;
     private final AppointmentRepository appointmentRepository;
+    private final TaskRepository taskRepository;
+    private final AppointmentSlotIndex slotIndex;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${app.scheduling.search-days:30}")
+    private int slotSearchDays;
+
+    @Value("${app.scheduling.availability-max-days:31}")
+    private int availabilityMaxDays;
 
+    @Transactional
     public AppointmentResponseDTO createAppointment(AppointmentCreateDTO appointmentCreateDTO) {
-        Customer customer = customerRepository.findById(currentUserService.getCurrentEntityId())
-                .orElseThrow(() -> new CustomerNotFoundException(
-                        "Customer not found: " + currentUserService.getCurrentEntityId()));
+        Long customerId = currentUserService.getCurrentEntityId();
+        Customer customer = customerRepository.findById(customerId)
+                .orElseThrow(() -> new CustomerNotFoundException("Customer not found: " + customerId));
 
         Vehicle vehicle = vehicleRepository.findById(appointmentCreateDTO.getVehicleId())
                 .orElseThrow(() -> new VehicleNotFoundException(
@@ -40,13 +86,17 @@ public class AppointmentService {
 
         Appointment appointment = converter.convertToEntity(appointmentCreateDTO, vehicle, customer);
 
+        // Saved first so the appointment has its id for the slot index
         appointmentRepository.save(appointment);
+        syncSlot(appointment);
+        checkBookingInDatabase(appointment);
 
         return converter.convertToResponseDto(appointment);
     }
 
+    @Transactional
     public AppointmentResponseDTO updateAppointment(Long appointmentId, AppointmentUpdateDTO updateDTO) {
-        Appointment appointment = appointmentRepository.findById(appointmentId)
+        Appointment appointment = appointmentRepository.findWithTasksByAppointmentId(appointmentId)
                 .orElseThrow(() -> new AppointmentNotFoundException("Appointment not found: " + appointmentId));
 
         if (updateDTO.getStartTime() != null && updateDTO.getEndTime() != null) {
@@ -55,10 +105,219 @@ public class AppointmentService {
             }
         }
 
+        AppointmentStatus previousStatus = appointment.getStatus();
+        LocalDate previousDate = appointment.getDate();
+        LocalTime previousStartTime = appointment.getStartTime();
         Appointment updatedAppointment = converter.updateEntityFromDto(appointment, updateDTO);
 
+        // A reminder already sent named the old time; let the scheduler send one for the new time
+        if (!Objects.equals(previousDate, updatedAppointment.getDate())
+                || !Objects.equals(previousStartTime, updatedAppointment.getStartTime())) {
+            updatedAppointment.setReminderSentAt(null);
+        }
+
+        // Reserve the mechanic's time before persisting; the reservation is undone if the transaction rolls back
+        syncSlot(updatedAppointment);
+        checkBookingInDatabase(updatedAppointment);
         appointmentRepository.save(updatedAppointment);
 
+        if (updatedAppointment.getStatus() != previousStatus) {
+            eventPublisher.publishEvent(
+                    StatusChangedEvent.appointment(appointmentId, previousStatus, updatedAppointment.getStatus()));
+        }
+
         return converter.convertToResponseDto(updatedAppointment);
     }
+
+    /*
+     * Keyset pagination over (date DESC, appointmentId DESC): every page is a seek
+     * on the composite indexes plus size + 1 rows, however deep the cursor is
+     */
+    @Transactional(readOnly = true)
+    public CursorPageDTO<AppointmentResponseDTO> listAppointments(LocalDate from, LocalDate to,
+            AppointmentStatus status, Long customerId, Long vehicleId, Long employeeId, String cursor, int size) {
+        CursorToken.checkPageSize(size);
+        if (from != null && to != null && to.isBefore(from)) {
+            throw new IllegalArgumentException("Invalid date range");
+        }
+
+        LocalDate afterDate = null;
+        Long afterId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] key = CursorToken.decode(cursor, 2);
+            try {
+                afterDate = LocalDate.parse(key[0]);
+                afterId = Long.valueOf(key[1]);
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("Invalid cursor", e);
+            }
+        }
+
+        // Customers only ever list their own appointments, whichever customerId they pass
+        if (roleBasedAccessService.hasRole(UserRole.CUSTOMER)) {
+            customerId = currentUserService.getCurrentEntityId();
+        }
+
+        Specification<Appointment> spec = Specification.allOf(
+                AppointmentSpecifications.dateFrom(from),
+                AppointmentSpecifications.dateTo(to),
+                AppointmentSpecifications.hasStatus(status),
+                AppointmentSpecifications.forCustomer(customerId),
+                AppointmentSpecifications.forVehicle(vehicleId),
+                AppointmentSpecifications.forEmployee(employeeId),
+                AppointmentSpecifications.after(afterDate, afterId));
+
+        // One extra row tells us whether there is a next page without a count query
+        List<Appointment> rows = appointmentRepository.findBy(spec,
+                query -> query.sortBy(LISTING_ORDER).limit(size + 1).all());
+
+        CursorPageDTO<Appointment> page = CursorToken.page(rows, size,
+                last -> CursorToken.encode(last.getDate(), last.getAppointmentId()));
+
+        // Second and last query: task ids for the whole page
+        Map<Long, List<Long>> taskIds = page.getItems().isEmpty() ? Map.of()
+                : taskRepository.findTaskIdsByAppointmentIds(
+                        page.getItems().stream().map(Appointment::getAppointmentId).toList())
+                        .stream()
+                        .collect(Collectors.groupingBy(TaskRepository.AppointmentTaskId::getAppointmentId,
+                                Collectors.mapping(TaskRepository.AppointmentTaskId::getTaskId, Collectors.toList())));
+
+        List<AppointmentResponseDTO> items = page.getItems().stream()
+                .map(a -> converter.convertToResponseDto(a, taskIds.getOrDefault(a.getAppointmentId(), List.of())))
+                .toList();
+
+        return new CursorPageDTO<>(items, page.getNextCursor(), page.isHasMore());
+    }
+
+    public TimeSlotDTO findNextAvailableSlot(Long employeeId, LocalDate date, int durationMinutes) {
+        if (durationMinutes <= 0) {
+            throw new IllegalArgumentException("Duration must be positive");
+        }
+
+        if (!employeeRepository.existsById(employeeId)) {
+            throw new EmployeeNotFoundException("Employee not found: " + employeeId);
+        }
+
+        LocalDate from = date != null ? date : LocalDate.now();
+        LocalTime notBefore = from.equals(LocalDate.now()) ? LocalTime.now() : null;
+
+        return slotIndex.findNextFreeSlot(employeeId, from, notBefore, Duration.ofMinutes(durationMinutes),
+                slotSearchDays)
+                .map(slot -> toTimeSlotDto(employeeId, slot))
+                .orElseThrow(() -> new IllegalStateException(
+                        "No free slot within " + slotSearchDays + " days for employee " + employeeId));
+    }
+
+    /*
+     * Free windows per employee over a date range, computed from the in-memory slot
+     * index: one lightweight employee query, no appointment rows are read
+     */
+    public List<EmployeeAvailabilityDTO> findAvailability(LocalDate from, LocalDate to, String specialization,
+            int minDurationMinutes) {
+        if (from == null || to == null || to.isBefore(from)) {
+            throw new IllegalArgumentException("Invalid date range");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= availabilityMaxDays) {
+            throw new IllegalArgumentException("Date range cannot exceed " + availabilityMaxDays + " days");
+        }
+        if (minDurationMinutes <= 0) {
+            throw new IllegalArgumentException("Duration must be positive");
+        }
+
+        LocalDate today = LocalDate.now();
+        LocalDate start = from.isBefore(today) ? today : from;
+        Duration minDuration = Duration.ofMinutes(minDurationMinutes);
+        String specializationFilter = specialization != null && !specialization.isBlank() ? specialization.trim() : null;
+
+        List<EmployeeRepository.EmployeeSummary> employees = employeeRepository.findSummaries(specializationFilter);
+        Map<LocalDate, Map<Long, List<BookedSlot>>> bookings = slotIndex.getBookings(start, to);
+        LocalTime now = LocalTime.now();
+
+        return employees.stream()
+                .map(employee -> {
+                    List<TimeSlotDTO> freeSlots = start.datesUntil(to.plusDays(1))
+                            .flatMap(date -> {
+                                List<BookedSlot> dayBookings = bookings
+                                        .getOrDefault(date, Map.of())
+                                        .getOrDefault(employee.getEmployeeId(), List.of());
+                                LocalTime notBefore = date.equals(today) ? now : null;
+                                return slotIndex.freeWindows(date, dayBookings, notBefore, minDuration).stream();
+                            })
+                            .map(slot -> toTimeSlotDto(employee.getEmployeeId(), slot))
+                            .toList();
+
+                    return new EmployeeAvailabilityDTO(employee.getEmployeeId(), employee.getName(),
+                            employee.getSpecialization(), freeSlots);
+                })
+                .toList();
+    }
+
+    private TimeSlotDTO toTimeSlotDto(Long employeeId, TimeSlot slot) {
+        return new TimeSlotDTO(employeeId, slot.date(), slot.startTime(), slot.endTime());
+    }
+
+    // Assigned to a mechanic, timed and not canceled
+    private static boolean isSchedulable(Appointment appointment) {
+        return appointment.getEmployee() != null
+                && appointment.getStartTime() != null
+                && appointment.getEndTime() != null
+                && appointment.getStatus() != AppointmentStatus.CANCELED;
+    }
+
+    /*
+     * The slot index only knows this node's bookings. Locking the mechanic's
+     * employee row makes concurrent bookings for them (from any node) take turns,
+     * so the overlap query below sees every committed booking.
+     */
+    private void checkBookingInDatabase(Appointment appointment) {
+        if (!isSchedulable(appointment)) {
+            return;
+        }
+
+        Long employeeId = appointment.getEmployee().getEmployeeId();
+        employeeRepository.lockById(employeeId);
+        if (appointmentRepository.existsOverlappingBooking(employeeId, appointment.getDate(),
+                appointment.getStartTime(), appointment.getEndTime(), appointment.getAppointmentId(),
+                AppointmentStatus.CANCELED)) {
+            throw new AppointmentConflictException("Mechanic " + employeeId + " is already booked on "
+                    + appointment.getDate() + " between " + appointment.getStartTime() + " and "
+                    + appointment.getEndTime());
+        }
+    }
+
+    /*
+     * Book (or free) the mechanic's time for this appointment in the slot index.
+     * Throws AppointmentConflictException on a double booking. The index is
+     * in-memory, so the change is put back if the surrounding transaction does
+     * not commit, whatever fails after this point.
+     */
+    private void syncSlot(Appointment appointment) {
+        Long appointmentId = appointment.getAppointmentId();
+        BookedSlot previous;
+        if (!isSchedulable(appointment)) {
+            previous = slotIndex.release(appointmentId);
+        } else {
+            if (!appointment.getEndTime().isAfter(appointment.getStartTime())) {
+                throw new IllegalArgumentException("End time must be after start time");
+            }
+
+            previous = slotIndex.book(new BookedSlot(
+                    appointmentId,
+                    appointment.getEmployee().getEmployeeId(),
+                    appointment.getDate(),
+                    appointment.getStartTime(),
+                    appointment.getEndTime()));
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        slotIndex.restore(appointmentId, previous);
+                    }
+                }
+            });
+        }
+    }
 }
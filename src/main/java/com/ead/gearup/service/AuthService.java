@@ -1,6 +1,8 @@
 package com.ead.gearup.service;
 
 import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
 
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -25,8 +27,10 @@ import com.ead.gearup.exception.UserNotFoundException;
 import com.ead.gearup.model.User;
 import com.ead.gearup.model.UserPrinciple;
 import com.ead.gearup.repository.UserRepository;
+import com.ead.gearup.service.auth.CurrentUserService;
 import com.ead.gearup.service.auth.CustomUserDetailsService;
 import com.ead.gearup.service.auth.JwtService;
+import com.ead.gearup.service.auth.UserDetailsCache;
 
 import io.jsonwebtoken.ExpiredJwtException;
 
@@ -45,6 +49,8 @@ public class AuthService {
     private final JwtService jwtService;
     private final CustomUserDetailsService customUserDetailsService;
     private final EmailVerificationService emailVerificationService;
+    private final CurrentUserService currentUserService;
+    private final UserDetailsCache userDetailsCache;
 
     private static final int COOLDOWN_MINUTES = 5;
 
@@ -60,8 +66,10 @@ public class AuthService {
                 .createdAt(LocalDateTime.now())
                 .build();
 
+        // Flush so a duplicate email fails here; with pooled ids the INSERT would otherwise wait for commit
         try {
             userRepository.save(user);
+            userRepository.flush();
         } catch (DataIntegrityViolationException e) {
             throw new EmailAlreadyExistsException(email);
         }
@@ -90,6 +98,7 @@ public class AuthService {
 
             user.setIsVerified(true);
             userRepository.save(user);
+            userDetailsCache.evict(user.getEmail());
 
             return true;
 
@@ -141,10 +150,11 @@ public class AuthService {
         UserPrinciple userPrinciple = (UserPrinciple) authentication.getPrincipal();
         User user = userPrinciple.getUser();
 
+        // Targeted update: the principal may be a cached copy, so it must not be merged back
         user.setLastLogin(LocalDateTime.now());
-        userRepository.save(user);
+        userRepository.updateLastLogin(user.getUserId(), user.getLastLogin());
 
-        String accessToken = jwtService.generateAccessToken(userPrinciple);
+        String accessToken = generateAccessToken(userPrinciple);
         String refreshToken = jwtService.generateRefreshToken(userPrinciple);
 
         return new JwtTokensDTO(accessToken, refreshToken);
@@ -158,11 +168,32 @@ public class AuthService {
             throw new InvalidRefreshTokenException("Invalid or expired refresh token");
         }
 
-        String newAccessToken = jwtService.generateAccessToken(userDetails);
+        String newAccessToken = generateAccessToken(userDetails);
 
         LoginResponseDTO loginResponse = new LoginResponseDTO();
         loginResponse.setAccessToken(newAccessToken);
 
         return loginResponse;
     }
+
+    /*
+     * Access tokens carry the user id and role-specific entity id so the JWT filter
+     * can rebuild the principal without a database round trip (stateless mode)
+     */
+    private String generateAccessToken(UserDetails userDetails) {
+        if (!(userDetails instanceof UserPrinciple userPrinciple) || userPrinciple.getUser() == null) {
+            return jwtService.generateAccessToken(userDetails);
+        }
+
+        User user = userPrinciple.getUser();
+        Map<String, Object> claims = new HashMap<>();
+        claims.put("user_id", user.getUserId());
+
+        Long entityId = currentUserService.resolveEntityId(user);
+        if (entityId != null) {
+            claims.put("entity_id", entityId);
+        }
+
+        return jwtService.generateAccessToken(userDetails, claims);
+    }
 }
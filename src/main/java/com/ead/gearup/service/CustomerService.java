@@ -3,6 +3,7 @@ package com.ead.gearup.service;
 import com.ead.gearup.dto.customer.CustomerRequestDTO;
 import com.ead.gearup.dto.customer.CustomerResponseDTO;
 import com.ead.gearup.dto.customer.CustomerUpdateDTO;
+import com.ead.gearup.dto.response.CursorPageDTO;
 import com.ead.gearup.exception.CustomerNotFoundException;
 import com.ead.gearup.exception.UnauthorizedCustomerAccessException;
 import com.ead.gearup.model.Customer;
@@ -10,16 +11,20 @@ import com.ead.gearup.model.User;
 import com.ead.gearup.enums.UserRole;
 import com.ead.gearup.repository.CustomerRepository;
 import com.ead.gearup.repository.UserRepository;
+import com.ead.gearup.service.auth.AuthStateService;
 import com.ead.gearup.service.auth.CurrentUserService;
+import com.ead.gearup.util.CursorToken;
 import com.ead.gearup.util.CustomerMapper;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -30,11 +35,21 @@ public class CustomerService {
     private final UserRepository userRepository;
     private final CustomerMapper customerMapper;
     private final CurrentUserService currentUserService;
+    private final AuthStateService authStateService;
+    private final VehicleLookupService vehicleLookupService;
+
+    public CursorPageDTO<CustomerResponseDTO> getPage(String cursor, int size) {
+        CursorToken.checkPageSize(size);
+        List<CustomerResponseDTO> rows = customerRepository.findPage(CursorToken.decodeId(cursor),
+                Limit.of(size + 1));
+        return CursorToken.page(rows, size, last -> CursorToken.encode(last.getId()));
+    }
 
-    public List<CustomerResponseDTO> getAll() {
-        return customerRepository.findAll().stream()
-                .map(customerMapper::toDto)
-                .collect(Collectors.toList());
+    // Must run inside the transaction so the JDBC cursor stays open while rows are written
+    public void exportAll(Consumer<CustomerResponseDTO> sink) {
+        try (Stream<CustomerResponseDTO> rows = customerRepository.streamAll()) {
+            rows.forEach(sink);
+        }
     }
 
     public CustomerResponseDTO getById(Long id) {
@@ -62,6 +77,7 @@ public class CustomerService {
 
         currentUser.setRole(UserRole.CUSTOMER);
         userRepository.save(currentUser);
+        authStateService.onUserAccessChanged(currentUser);
 
         Customer customer = customerMapper.toEntity(dto);
         if (customer == null) {
@@ -110,8 +126,11 @@ public class CustomerService {
             linkedUser.setRole(UserRole.PUBLIC);
             customer.setUser(null);
             userRepository.save(linkedUser);
+            authStateService.onUserAccessChanged(linkedUser);
         }
 
+        // The customer's vehicles go with it
         customerRepository.delete(customer);
+        vehicleLookupService.evictAll();
     }
 }
@@ -1,13 +1,24 @@
 package com.ead.gearup.service;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
-import org.thymeleaf.TemplateEngine;
-import org.thymeleaf.context.Context;
 
 import com.ead.gearup.exception.EmailSendingException;
+import com.ead.gearup.service.email.BulkSendResult;
+import com.ead.gearup.service.email.EmailTemplates;
+import com.ead.gearup.service.email.SendRateLimiter;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
 
@@ -18,31 +29,95 @@ import lombok.RequiredArgsConstructor;
 public class EmailService {
 
     private final JavaMailSender mailSender;
-    private final TemplateEngine templateEngine;
-
-    public void sendVerificationEmail(String to, String name, String verificationUrl) {
-        try {
-            String subject = "Verify Your Email";
+    private final EmailTemplates emailTemplates;
+    private final MeterRegistry meterRegistry;
 
-            MimeMessage message = mailSender.createMimeMessage();
-            MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
+    // Messages sent over one SMTP connection
+    @Value("${app.mail.bulk.batch-size:50}")
+    private int batchSize;
 
-            // Prepare Thymeleaf context
-            Context context = new Context();
-            context.setVariable("name", name);
-            context.setVariable("verificationUrl", verificationUrl);
+    @Value("${app.mail.max-per-second:10}")
+    private double maxPerSecond;
 
-            // Generate HTML content from template
-            String htmlContent = templateEngine.process("verification-email.html", context);
+    private SendRateLimiter rateLimiter;
 
-            helper.setTo(to);
-            helper.setSubject(subject);
-            helper.setText(htmlContent, true);
+    @PostConstruct
+    void init() {
+        rateLimiter = new SendRateLimiter(maxPerSecond);
+    }
 
+    public void sendVerificationEmail(String to, String name, String verificationUrl) {
+        try {
+            MimeMessage message = composeVerificationEmail(to, name, verificationUrl);
+            rateLimiter.acquire(1);
             mailSender.send(message);
 
         } catch (MessagingException e) {
             throw new EmailSendingException("Failed to send verification email: " + e.getMessage(), e);
         }
     }
+
+    public MimeMessage composeVerificationEmail(String to, String name, String verificationUrl)
+            throws MessagingException {
+        return compose(to, "Verify Your Email", EmailTemplates.VERIFICATION,
+                Map.of("name", name, "verificationUrl", verificationUrl));
+    }
+
+    // Variables: name, date, time, vehicle
+    public MimeMessage composeAppointmentReminder(String to, Map<String, String> variables)
+            throws MessagingException {
+        return compose(to, "Your GearUp appointment on " + variables.get("date"),
+                EmailTemplates.APPOINTMENT_REMINDER, variables);
+    }
+
+    private MimeMessage compose(String to, String subject, String template, Map<String, String> variables)
+            throws MessagingException {
+        // Single-part HTML message, there are no attachments
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, false, "UTF-8");
+
+        // Generate HTML content from the precompiled template
+        String htmlContent = emailTemplates.render(template, variables);
+
+        helper.setTo(to);
+        helper.setSubject(subject);
+        helper.setText(htmlContent, true);
+
+        return message;
+    }
+
+    /**
+     * Sends messages in groups of batch-size, each group over a single SMTP
+     * connection, paced by the shared rate limit. Never throws for delivery
+     * problems: failed messages are returned with their error.
+     */
+    public BulkSendResult sendBulk(List<MimeMessage> messages) {
+        Map<MimeMessage, Exception> failures = new LinkedHashMap<>();
+        Timer batchTimer = meterRegistry.timer("gearup.email.bulk.batch");
+
+        for (int from = 0; from < messages.size(); from += batchSize) {
+            List<MimeMessage> batch = messages.subList(from, Math.min(from + batchSize, messages.size()));
+            rateLimiter.acquire(batch.size());
+
+            Timer.Sample sample = Timer.start(meterRegistry);
+            try {
+                mailSender.send(batch.toArray(MimeMessage[]::new));
+            } catch (MailSendException e) {
+                // Per-message errors; on a connection failure every message of the batch is listed
+                e.getFailedMessages().forEach((message, error) -> failures.put((MimeMessage) message, error));
+                if (e.getFailedMessages().isEmpty()) {
+                    batch.forEach(message -> failures.put(message, e));
+                }
+            } catch (MailException e) {
+                batch.forEach(message -> failures.put(message, e));
+            } finally {
+                sample.stop(batchTimer);
+            }
+        }
+
+        int sent = messages.size() - failures.size();
+        meterRegistry.counter("gearup.email.bulk.messages", "result", "sent").increment(sent);
+        meterRegistry.counter("gearup.email.bulk.messages", "result", "failed").increment(failures.size());
+        return new BulkSendResult(sent, failures);
+    }
 }
@@ -1,23 +1,29 @@
 package com.ead.gearup.service;
 
-import org.springframework.transaction.annotation.Transactional;
+import java.util.Map;
+
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
+import com.ead.gearup.enums.EmailType;
+import com.ead.gearup.enums.UserRole;
 import com.ead.gearup.model.User;
 import com.ead.gearup.model.UserPrinciple;
 import com.ead.gearup.service.auth.JwtService;
+import com.ead.gearup.service.email.EmailOutboxService;
 
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
 
 @Service
-@Transactional
 @RequiredArgsConstructor
 public class EmailVerificationService {
 
     private final EmailService emailService;
     private final JwtService jwtService;
+    private final EmailOutboxService emailOutboxService;
 
     @Value("${app.base-url}")
     private String appBaseUrl;
@@ -25,22 +31,26 @@ public class EmailVerificationService {
     @Value("${app.frontend-url}")
     private String frontendUrl;
 
+    // Queued in the caller's transaction; EmailOutboxDispatcher sends it after commit
     public void sendVerificationEmail(User user) {
-        try {
-            // Create UserDetails manually, no verification check
-            UserDetails userDetails = new UserPrinciple(user);
+        emailOutboxService.enqueue(EmailType.VERIFICATION, user.getEmail(), Map.of("name", user.getName()));
+    }
 
-            String token = jwtService.generateEmailVerificationToken(userDetails);
+    /**
+     * Called by the outbox dispatcher. The token is minted at send time, so a
+     * retried email never carries an already expired link
+     */
+    public MimeMessage composeVerificationEmail(String email, String name) throws MessagingException {
+        // Create UserDetails manually, no verification check
+        UserDetails userDetails = new UserPrinciple(
+                User.builder().email(email).name(name).role(UserRole.CUSTOMER).build());
 
-            // Use frontend URL for verification link
-            String verificationUrl = frontendUrl + "/verify-email?token=" + token;
+        String token = jwtService.generateEmailVerificationToken(userDetails);
 
-            // Send email
-            emailService.sendVerificationEmail(user.getEmail(), user.getName(), verificationUrl);
+        // Use frontend URL for verification link
+        String verificationUrl = frontendUrl + "/verify-email?token=" + token;
 
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to send verification email: " + e.getMessage(), e);
-        }
+        return emailService.composeVerificationEmail(email, name, verificationUrl);
     }
 
 }
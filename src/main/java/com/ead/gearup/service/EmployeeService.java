@@ -1,12 +1,14 @@
 package com.ead.gearup.service;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.ead.gearup.dto.employee.CreateEmployeeDTO;
 import com.ead.gearup.dto.employee.EmployeeResponseDTO;
 import com.ead.gearup.dto.employee.UpdateEmployeeDTO;
+import com.ead.gearup.dto.response.CursorPageDTO;
 import com.ead.gearup.enums.UserRole;
 import com.ead.gearup.exception.EmployeeNotFoundException;
 import com.ead.gearup.exception.UnauthorizedCustomerAccessException;
@@ -15,13 +17,16 @@ import com.ead.gearup.model.Employee;
 import com.ead.gearup.model.User;
 import com.ead.gearup.repository.EmployeeRepository;
 import com.ead.gearup.repository.UserRepository;
+import com.ead.gearup.service.auth.AuthStateService;
 import com.ead.gearup.service.auth.CurrentUserService;
+import com.ead.gearup.util.CursorToken;
 import com.ead.gearup.util.EmployeeDTOConverter;
 
 import lombok.RequiredArgsConstructor;
 
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -35,6 +40,7 @@ public class EmployeeService {
 
     private final CurrentUserService currentUserService;
     private final UserRepository userRepository;
+    private final AuthStateService authStateService;
 
     @Transactional
     public EmployeeResponseDTO createEmployee(CreateEmployeeDTO createEmployeeDTO) {
@@ -51,6 +57,7 @@ public class EmployeeService {
 
         currentUser.setRole(UserRole.EMPLOYEE);
         userRepository.save(currentUser);
+        authStateService.onUserAccessChanged(currentUser);
 
         // Convert DTO -> Employee Entity directly
         Employee employee = converter.convertToEntity(createEmployeeDTO);
@@ -64,11 +71,18 @@ public class EmployeeService {
         return converter.convertToResponseDto(savedEmployee);
     }
 
-    public List<EmployeeResponseDTO> getAllEmployees() {
-        List<Employee> employees = employeeRepository.findAll();
-        return employees.stream()
-                .map(employee -> converter.convertToResponseDto(employee))
-                .collect(Collectors.toList());
+    public CursorPageDTO<EmployeeResponseDTO> getEmployeesPage(String cursor, int size) {
+        CursorToken.checkPageSize(size);
+        List<EmployeeResponseDTO> rows = employeeRepository.findPage(CursorToken.decodeId(cursor),
+                Limit.of(size + 1));
+        return CursorToken.page(rows, size, last -> CursorToken.encode(last.getEmployeeId()));
+    }
+
+    // Must run inside the transaction so the JDBC cursor stays open while rows are written
+    public void exportEmployees(Consumer<EmployeeResponseDTO> sink) {
+        try (Stream<EmployeeResponseDTO> rows = employeeRepository.streamAll()) {
+            rows.forEach(sink);
+        }
     }
 
     public EmployeeResponseDTO getEmployeeById(Long id) {
@@ -81,6 +95,7 @@ public class EmployeeService {
         return converter.convertToResponseDto(employee);
     }
 
+    @Transactional
     public EmployeeResponseDTO updateEmployee(Long id, UpdateEmployeeDTO updateEmployeeDTO) {
         if (id == null || id <= 0) {
             throw new IllegalArgumentException("Invalid employee ID");
@@ -110,6 +125,7 @@ public class EmployeeService {
             linkedUser.setRole(UserRole.PUBLIC);
             employee.setUser(null);
             userRepository.save(linkedUser);
+            authStateService.onUserAccessChanged(linkedUser);
         }
 
         // Delete the employee safely
@@ -1,11 +1,27 @@
 package com.ead.gearup.service;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
+import com.ead.gearup.dto.response.ItemErrorDTO;
 import com.ead.gearup.dto.task.TaskCreateDTO;
 import com.ead.gearup.dto.task.TaskResponseDTO;
+import com.ead.gearup.enums.TaskStatus;
+import com.ead.gearup.exception.BatchValidationException;
+import com.ead.gearup.exception.TaskNotFoundException;
+import com.ead.gearup.model.Appointment;
 import com.ead.gearup.model.Task;
+import com.ead.gearup.repository.AppointmentRepository;
 import com.ead.gearup.repository.TaskRepository;
+import com.ead.gearup.service.notification.StatusChangedEvent;
 import com.ead.gearup.util.TaskDTOConverter;
 
 import jakarta.transaction.Transactional;
@@ -18,6 +34,8 @@ public class TaskService {
 
     private final TaskDTOConverter taskDTOConverter;
     private final TaskRepository taskRepository;
+    private final AppointmentRepository appointmentRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public TaskResponseDTO createTask(TaskCreateDTO taskCreateDTO) {
 
@@ -27,4 +45,83 @@ public class TaskService {
         return taskDTOConverter.convertToResponseDto(task);
     }
 
+    // Subscribers of the task's appointment are notified once the change commits
+    public TaskResponseDTO updateTaskStatus(Long taskId, TaskStatus status) {
+        Task task = taskRepository.findById(taskId)
+                .orElseThrow(() -> new TaskNotFoundException("Task not found: " + taskId));
+
+        TaskStatus previousStatus = task.getStatus();
+        if (status != previousStatus) {
+            task.setStatus(status);
+            task.setCompletedAt(status == TaskStatus.COMPLETED ? LocalDateTime.now() : null);
+
+            if (task.getAppointment() != null) {
+                eventPublisher.publishEvent(StatusChangedEvent.task(task.getAppointment().getAppointmentId(),
+                        taskId, previousStatus, status));
+            }
+        }
+
+        return taskDTOConverter.convertToResponseDto(task);
+    }
+
+    /*
+     * All or nothing: every item is validated first (each appointment is loaded once
+     * for the whole batch), then the tasks are inserted together as JDBC batches
+     */
+    public List<TaskResponseDTO> createTasks(List<TaskCreateDTO> taskCreateDTOs) {
+        Map<Long, Appointment> appointments = appointmentRepository.findAllById(taskCreateDTOs.stream()
+                .map(TaskCreateDTO::getAppointmentId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList())
+                .stream()
+                .collect(Collectors.toMap(Appointment::getAppointmentId, Function.identity()));
+
+        List<ItemErrorDTO> errors = new ArrayList<>();
+        for (int i = 0; i < taskCreateDTOs.size(); i++) {
+            String problem = validate(taskCreateDTOs.get(i), appointments);
+            if (problem != null) {
+                errors.add(new ItemErrorDTO(i, problem));
+            }
+        }
+        if (!errors.isEmpty()) {
+            throw new BatchValidationException(errors.size() + " of " + taskCreateDTOs.size()
+                    + " tasks are invalid; nothing was created", errors);
+        }
+
+        List<Task> tasks = taskCreateDTOs.stream()
+                .map(dto -> taskDTOConverter.convertToEntity(dto, appointments.get(dto.getAppointmentId())))
+                .toList();
+
+        return taskRepository.saveAll(tasks).stream()
+                .map(taskDTOConverter::convertToResponseDto)
+                .toList();
+    }
+
+    private String validate(TaskCreateDTO dto, Map<Long, Appointment> appointments) {
+        if (dto == null) {
+            return "Task is missing";
+        }
+
+        List<String> problems = new ArrayList<>();
+        if (dto.getName() == null || dto.getName().isBlank()) {
+            problems.add("name is required");
+        }
+        if (dto.getDescription() == null || dto.getDescription().isBlank()) {
+            problems.add("description is required");
+        }
+        if (dto.getEstimatedHours() == null || dto.getEstimatedHours() < 0) {
+            problems.add("estimatedHours must be zero or more");
+        }
+        if (dto.getCost() == null || dto.getCost() < 0) {
+            problems.add("cost must be zero or more");
+        }
+        if (dto.getAppointmentId() == null) {
+            problems.add("appointmentId is required");
+        } else if (!appointments.containsKey(dto.getAppointmentId())) {
+            problems.add("Invalid appointment ID: " + dto.getAppointmentId());
+        }
+
+        return problems.isEmpty() ? null : String.join(", ", problems);
+    }
 }
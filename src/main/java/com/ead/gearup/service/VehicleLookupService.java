@@ -0,0 +1,133 @@
+package com.ead.gearup.service;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.ead.gearup.dto.vehicle.VehicleResponseDTO;
+import com.ead.gearup.exception.VehicleNotFoundException;
+import com.ead.gearup.repository.VehicleRepository;
+import com.ead.gearup.util.VehicleKeys;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Front-desk vehicle lookup by plate or VIN. Input is canonicalized with
+ * VehicleKeys, so spacing, dashes and case don't matter; exact lookups use the
+ * canonical form, prefix search the ASCII key. Exact lookups and
+ * type-ahead prefixes are served from a read-through cache; any vehicle write
+ * clears it (writes are rare compared to lookups).
+ */
+@Service
+@RequiredArgsConstructor
+public class VehicleLookupService {
+
+    public static final int MAX_SEARCH_RESULTS = 20;
+
+    private final VehicleRepository vehicleRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.cache.vehicle-lookup.max-size:10000}")
+    private long maxSize;
+
+    @Value("${app.cache.vehicle-lookup.ttl:300000}")
+    private long ttlMillis;
+
+    private Cache<String, Optional<VehicleResponseDTO>> exactCache;
+    private Cache<String, List<VehicleResponseDTO>> prefixCache;
+
+    @PostConstruct
+    void init() {
+        exactCache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMillis(ttlMillis))
+                .recordStats()
+                .build();
+        prefixCache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMillis(ttlMillis))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, exactCache, "vehicleLookup");
+        CaffeineCacheMetrics.monitor(meterRegistry, prefixCache, "vehicleSearch");
+    }
+
+    public VehicleResponseDTO findByPlate(String licensePlate) {
+        String key = requireKey(VehicleKeys.canonical(licensePlate), "License plate");
+        return exactCache.get("P:" + key, k -> vehicleRepository.findByPlateCanonical(key))
+                .orElseThrow(() -> new VehicleNotFoundException("Vehicle not found with license plate: "
+                        + licensePlate));
+    }
+
+    public VehicleResponseDTO findByVin(String vin) {
+        String key = requireKey(VehicleKeys.canonical(vin), "VIN");
+        return exactCache.get("V:" + key, k -> vehicleRepository.findByVinCanonical(key))
+                .orElseThrow(() -> new VehicleNotFoundException("Vehicle not found with VIN: " + vin));
+    }
+
+    // Type-ahead: plates starting with the query first, then VINs, at most limit vehicles
+    public List<VehicleResponseDTO> search(String query, int limit) {
+        if (limit < 1 || limit > MAX_SEARCH_RESULTS) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_SEARCH_RESULTS);
+        }
+        String prefix = requireKey(VehicleKeys.normalize(query), "Search query");
+
+        List<VehicleResponseDTO> matches = prefixCache.get(prefix, p -> {
+            String to = VehicleKeys.prefixRangeEnd(p);
+            Map<Long, VehicleResponseDTO> byId = new LinkedHashMap<>();
+            vehicleRepository.findByPlateKeyRange(p, to, Limit.of(MAX_SEARCH_RESULTS))
+                    .forEach(v -> byId.put(v.getId(), v));
+            if (byId.size() < MAX_SEARCH_RESULTS) {
+                vehicleRepository.findByVinKeyRange(p, to, Limit.of(MAX_SEARCH_RESULTS))
+                        .forEach(v -> byId.putIfAbsent(v.getId(), v));
+            }
+            return byId.values().stream().limit(MAX_SEARCH_RESULTS).toList();
+        });
+
+        return matches.subList(0, Math.min(matches.size(), limit));
+    }
+
+    /**
+     * Call after any vehicle insert, update or delete. Clears now and again after
+     * the surrounding transaction commits, so a concurrent lookup can't re-cache
+     * the pre-commit state
+     */
+    public void evictAll() {
+        clear();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    clear();
+                }
+            });
+        }
+    }
+
+    private void clear() {
+        exactCache.invalidateAll();
+        prefixCache.invalidateAll();
+    }
+
+    private static String requireKey(String key, String label) {
+        if (key == null || key.isEmpty()) {
+            throw new IllegalArgumentException(label + " is required");
+        }
+        return key;
+    }
+}
@@ -1,10 +1,14 @@
 package com.ead.gearup.service;
 
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.ead.gearup.dto.response.CursorPageDTO;
 import com.ead.gearup.dto.vehicle.VehicleCreateDTO;
 import com.ead.gearup.dto.vehicle.VehicleResponseDTO;
 import com.ead.gearup.dto.vehicle.VehicleUpdateDTO;
@@ -15,42 +19,39 @@ import com.ead.gearup.model.Vehicle;
 import com.ead.gearup.repository.CustomerRepository;
 import com.ead.gearup.repository.VehicleRepository;
 import com.ead.gearup.service.auth.CurrentUserService;
+import com.ead.gearup.util.CursorToken;
 import com.ead.gearup.util.VehicleDTOConverter;
+import com.ead.gearup.util.VehicleKeys;
 
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 
 @Service
 @RequiredArgsConstructor
+@Transactional(readOnly = true)
 public class VehicleService {
 
     private final CurrentUserService currentUserService;
     private final VehicleDTOConverter converter;
     private final CustomerRepository customerRepository;
     private final VehicleRepository vehicleRepository;
+    private final VehicleLookupService vehicleLookupService;
 
     @Transactional
     public VehicleResponseDTO createVehicle(VehicleCreateDTO createVehicleDTO) {
 
-        Customer customer = customerRepository.findById(currentUserService.getCurrentEntityId())
-                .orElseThrow(() -> new CustomerNotFoundException(
-                        "Customer not found: " + currentUserService.getCurrentEntityId()));
-
-        // Check if vehicle already exists by license plate
-        vehicleRepository.findByLicensePlate(createVehicleDTO.getLicensePlate())
-                .ifPresent(v -> {
-                    throw new IllegalArgumentException("Vehicle with this license plate already exists");
-                });
-
-        // Check if vehicle already exists by vin
-        vehicleRepository.findByVin(createVehicleDTO.getVin())
-                .ifPresent(v -> {
-                    throw new IllegalArgumentException("Vehicle with this VIN already exists");
-                });
+        Long customerId = currentUserService.getCurrentEntityId();
+        Customer customer = customerRepository.findById(customerId)
+                .orElseThrow(() -> new CustomerNotFoundException("Customer not found: " + customerId));
 
         Vehicle vehicle = converter.convertToEntity(createVehicleDTO, customer);
+        requireKeys(vehicle);
+
+        // No pre-checks: a duplicate VIN or plate fails the INSERT on uk_vehicle_vin /
+        // uk_vehicle_license_plate, which GlobalExceptionHandler turns into a 409
+        Vehicle savedVehicle = vehicleRepository.saveAndFlush(vehicle);
+        vehicleLookupService.evictAll();
 
-        return converter.convertToResponseDto(vehicleRepository.save(vehicle));
+        return converter.convertToResponseDto(savedVehicle);
     }
 
     public VehicleResponseDTO getVehicleById(Long id) {
@@ -64,11 +65,18 @@ public class VehicleService {
         return converter.convertToResponseDto(vehicle);
     }
 
-    public List<VehicleResponseDTO> getAllVehicles() {
-        List<Vehicle> vehicles = vehicleRepository.findAll();
-        return vehicles.stream()
-                .map(vehicle -> converter.convertToResponseDto(vehicle))
-                .collect(Collectors.toList());
+    public CursorPageDTO<VehicleResponseDTO> getVehiclesPage(String cursor, int size) {
+        CursorToken.checkPageSize(size);
+        List<VehicleResponseDTO> rows = vehicleRepository.findPage(CursorToken.decodeId(cursor),
+                Limit.of(size + 1));
+        return CursorToken.page(rows, size, last -> CursorToken.encode(last.getId()));
+    }
+
+    // Must run inside the transaction so the JDBC cursor stays open while rows are written
+    public void exportVehicles(Consumer<VehicleResponseDTO> sink) {
+        try (Stream<VehicleResponseDTO> rows = vehicleRepository.streamAll()) {
+            rows.forEach(sink);
+        }
     }
 
     @Transactional
@@ -82,8 +90,10 @@ public class VehicleService {
         }
 
         vehicleRepository.deleteById(id);
+        vehicleLookupService.evictAll();
     }
 
+    @Transactional
     public VehicleResponseDTO updateVehicle(Long id, VehicleUpdateDTO updateVehicleDTO) {
         if (id == null || id <= 0) {
             throw new IllegalArgumentException("Invalid Vehicle ID");
@@ -93,9 +103,18 @@ public class VehicleService {
                 .orElseThrow(() -> new VehicleNotFoundException("Vehicle not found with id: " + id));
 
         converter.updateEntityFromDto(existingVehicle, updateVehicleDTO);
+        requireKeys(existingVehicle);
 
-        Vehicle savedVehicle = vehicleRepository.save(existingVehicle);
+        // Flush here so a unique-key conflict surfaces as DataIntegrityViolationException
+        Vehicle savedVehicle = vehicleRepository.saveAndFlush(existingVehicle);
+        vehicleLookupService.evictAll();
 
         return converter.convertToResponseDto(savedVehicle);
     }
+
+    // A VIN or plate without usable keys would collide on the empty key or never be found
+    private static void requireKeys(Vehicle vehicle) {
+        VehicleKeys.requireKeys(vehicle.getVin(), "VIN");
+        VehicleKeys.requireKeys(vehicle.getLicensePlate(), "License plate");
+    }
 }
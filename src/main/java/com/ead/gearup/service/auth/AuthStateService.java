@@ -0,0 +1,26 @@
+package com.ead.gearup.service.auth;
+
+import org.springframework.stereotype.Service;
+
+import com.ead.gearup.model.User;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Single hook for everything that caches a user's authorization state.
+ * Call it whenever a user's role or profile link changes.
+ */
+@Service
+@RequiredArgsConstructor
+public class AuthStateService {
+
+    private final TokenRevocationService tokenRevocationService;
+    private final UserDetailsCache userDetailsCache;
+    private final CurrentUserService currentUserService;
+
+    public void onUserAccessChanged(User user) {
+        tokenRevocationService.revokeAll(user.getUserId());
+        userDetailsCache.evict(user.getEmail());
+        currentUserService.clearCurrentUserContext();
+    }
+}
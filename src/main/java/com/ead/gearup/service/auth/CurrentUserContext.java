@@ -0,0 +1,32 @@
+package com.ead.gearup.service.auth;
+
+import com.ead.gearup.model.User;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Identity of the authenticated user, resolved lazily and at most once per request.
+ * Stored as a request attribute by CurrentUserService.
+ */
+@Getter
+@Setter
+@RequiredArgsConstructor
+public class CurrentUserContext {
+
+    private final Long userId;
+
+    private User user;
+
+    private Long entityId;
+
+    private boolean entityIdResolved;
+
+    // Repository calls made while resolving this identity
+    private int queryCount;
+
+    void recordQuery() {
+        queryCount++;
+    }
+}
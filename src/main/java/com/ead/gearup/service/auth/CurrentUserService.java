@@ -2,6 +2,8 @@ package com.ead.gearup.service.auth;
 
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
 import com.ead.gearup.enums.UserRole;
 import com.ead.gearup.exception.AccessDeniedException;
@@ -12,15 +14,30 @@ import com.ead.gearup.repository.CustomerRepository;
 import com.ead.gearup.repository.EmployeeRepository;
 import com.ead.gearup.repository.UserRepository;
 
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 
 @Service
 @RequiredArgsConstructor
 public class CurrentUserService {
 
+    private static final String CONTEXT_ATTRIBUTE = CurrentUserContext.class.getName();
+
     private final UserRepository userRepository;
     private final CustomerRepository customerRepository;
     private final EmployeeRepository employeeRepository;
+    private final MeterRegistry meterRegistry;
+
+    private DistributionSummary queriesPerRequest;
+
+    @PostConstruct
+    void init() {
+        this.queriesPerRequest = DistributionSummary.builder("gearup.current_user.queries")
+                .description("Repository queries issued to resolve the current user, per request")
+                .register(meterRegistry);
+    }
 
     public Long getCurrentUserId() {
         var authentication = SecurityContextHolder.getContext().getAuthentication();
@@ -33,9 +50,16 @@ public class CurrentUserService {
     }
 
     public User getCurrentUser() {
-        Long userId = getCurrentUserId();
-        return userRepository.findById(userId)
-                .orElseThrow(() -> new UserNotFoundException("User not found with ID: " + userId));
+        CurrentUserContext context = currentContext();
+
+        if (context.getUser() == null) {
+            Long userId = context.getUserId();
+            context.recordQuery();
+            context.setUser(userRepository.findById(userId)
+                    .orElseThrow(() -> new UserNotFoundException("User not found with ID: " + userId)));
+        }
+
+        return context.getUser();
     }
 
     /**
@@ -47,15 +71,33 @@ public class CurrentUserService {
 
     /*
      * Get the current user's role-specific entity ID
-     * The entity ID (volunteerId, sponsorId, organizationId, or userId for admin),
+     * The entity ID (customerId, employeeId, or userId for admin/public),
      * or null if not found
      */
     public Long getCurrentEntityId() {
-        Long userId = getCurrentUserId();
+        CurrentUserContext context = currentContext();
+
+        if (!context.isEntityIdResolved()) {
+            Long fromToken = principalEntityId();
+            if (fromToken != null) {
+                context.setEntityId(fromToken);
+            } else {
+                User user = getCurrentUser();
+                if (user.getRole() == UserRole.CUSTOMER || user.getRole() == UserRole.EMPLOYEE) {
+                    context.recordQuery();
+                }
+                context.setEntityId(resolveEntityId(user));
+            }
+            context.setEntityIdResolved(true);
+        }
 
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new UserNotFoundException("User not found"));
+        return context.getEntityId();
+    }
 
+    /*
+     * Resolve the role-specific entity ID for the given user
+     */
+    public Long resolveEntityId(User user) {
         if (user.getRole() == null) {
             return null;
         }
@@ -73,9 +115,7 @@ public class CurrentUserService {
     }
 
     public UserRole getCurrentUserType() {
-        Long userId = getCurrentUserId();
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new UserNotFoundException("User not found with ID: " + userId));
+        User user = getCurrentUser();
 
         if (user.getRole() == null) {
             throw new RuntimeException("User role is not set");
@@ -84,4 +124,61 @@ public class CurrentUserService {
         return user.getRole();
     }
 
+    /*
+     * Forget the identity resolved for this request, e.g. after the user's role changed
+     */
+    public void clearCurrentUserContext() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            CurrentUserContext context = (CurrentUserContext) attributes.getAttribute(CONTEXT_ATTRIBUTE,
+                    RequestAttributes.SCOPE_REQUEST);
+            if (context != null) {
+                // Keep the query tally for the metric, drop everything else
+                CurrentUserContext fresh = new CurrentUserContext(context.getUserId());
+                fresh.setQueryCount(context.getQueryCount());
+                attributes.setAttribute(CONTEXT_ATTRIBUTE, fresh, RequestAttributes.SCOPE_REQUEST);
+            }
+        }
+    }
+
+    /*
+     * The request's identity context, created on first use. Outside of a web request
+     * (no request attributes) a throwaway context is returned, so nothing is shared.
+     */
+    private CurrentUserContext currentContext() {
+        Long userId = getCurrentUserId();
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+
+        if (attributes == null) {
+            return new CurrentUserContext(userId);
+        }
+
+        Object existing = attributes.getAttribute(CONTEXT_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (existing instanceof CurrentUserContext context && userId.equals(context.getUserId())) {
+            return context;
+        }
+
+        CurrentUserContext context = new CurrentUserContext(userId);
+        attributes.setAttribute(CONTEXT_ATTRIBUTE, context, RequestAttributes.SCOPE_REQUEST);
+        attributes.registerDestructionCallback(CONTEXT_ATTRIBUTE, () -> recordQueries(attributes),
+                RequestAttributes.SCOPE_REQUEST);
+        return context;
+    }
+
+    private void recordQueries(RequestAttributes attributes) {
+        Object context = attributes.getAttribute(CONTEXT_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (context instanceof CurrentUserContext currentUserContext) {
+            queriesPerRequest.record(currentUserContext.getQueryCount());
+        }
+    }
+
+    // Entity id carried by a principal rebuilt from token claims (stateless auth)
+    private Long principalEntityId() {
+        var authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof UserPrinciple userDetails) {
+            return userDetails.getEntityId();
+        }
+        return null;
+    }
+
 }
@@ -1,5 +1,6 @@
 package com.ead.gearup.service.auth;
 
+import com.ead.gearup.enums.UserRole;
 import com.ead.gearup.exception.EmailNotVerifiedException;
 import com.ead.gearup.model.User;
 import com.ead.gearup.model.UserPrinciple;
@@ -17,10 +18,16 @@ import org.springframework.stereotype.Service;
 public class CustomUserDetailsService implements UserDetailsService {
 
     private final UserRepository userRepository;
+    private final UserDetailsCache userDetailsCache;
 
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
 
+        User cached = userDetailsCache.get(email);
+        if (cached != null) {
+            return new UserPrinciple(cached);
+        }
+
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + email));
 
@@ -28,7 +35,25 @@ public class CustomUserDetailsService implements UserDetailsService {
             throw new EmailNotVerifiedException("Email not verified");
         }
 
+        // Only verified users are cached, so the verification check above holds for hits too
+        userDetailsCache.put(user);
+
         return new UserPrinciple(user);
     }
 
+    /**
+     * Rebuild a principal from verified access token claims without touching the database.
+     * The User is detached and only carries id, email, role and verification flag.
+     */
+    public UserPrinciple loadUserFromToken(VerifiedToken token) {
+        User user = User.builder()
+                .userId(token.userId())
+                .email(token.subject())
+                .role(UserRole.valueOf(token.role()))
+                .isVerified(true) // tokens are only issued to verified users
+                .build();
+
+        return new UserPrinciple(user, token.entityId());
+    }
+
 }
\ No newline at end of file
@@ -9,12 +9,15 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
 
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 
+import java.time.Instant;
 import java.util.Date;
 import java.util.function.Function;
 
@@ -36,6 +39,19 @@ public class JwtService {
     @Value("${jwt.email_verification.expiration}")
     private long emailVerificationTokenDurationMs;
 
+    // Built once at startup; both are immutable and thread-safe
+    private SecretKey signKey;
+    private JwtParser jwtParser;
+
+    @PostConstruct
+    void init() {
+        byte[] keyBytes = Decoders.BASE64.decode(secretKey);
+        this.signKey = Keys.hmacShaKeyFor(keyBytes);
+        this.jwtParser = Jwts.parser()
+                .verifyWith(signKey)
+                .build();
+    }
+
     /**
      * Generate an access token (short-lived)
      */
@@ -60,7 +76,7 @@ public class JwtService {
                 .subject(userDetails.getUsername())
                 .issuedAt(new Date(System.currentTimeMillis()))
                 .expiration(new Date(System.currentTimeMillis() + jwtExpirationMillis))
-                .signWith(getSignKey())
+                .signWith(signKey)
                 .header().add("typ", "JWT")
                 .and()
                 .compact();
@@ -87,7 +103,7 @@ public class JwtService {
                 .subject(userDetails.getUsername())
                 .issuedAt(new Date(System.currentTimeMillis()))
                 .expiration(new Date(System.currentTimeMillis() + refreshTokenDurationMs))
-                .signWith(getSignKey())
+                .signWith(signKey)
                 .header().add("typ", "JWT")
                 .and()
                 .compact();
@@ -102,37 +118,41 @@ public class JwtService {
                 .subject(userDetails.getUsername())
                 .issuedAt(new Date(System.currentTimeMillis()))
                 .expiration(new Date(System.currentTimeMillis() + emailVerificationTokenDurationMs))
-                .signWith(getSignKey())
+                .signWith(signKey)
                 .header().add("typ", "JWT")
                 .and()
                 .compact();
     }
 
-    private SecretKey getSignKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secretKey);
-        return Keys.hmacShaKeyFor(keyBytes);
+    /**
+     * Parse and verify a token once (signature and expiry), returning its claims
+     * as an immutable object. Throws a JwtException if the token is invalid.
+     */
+    public VerifiedToken verify(String token) {
+        return VerifiedToken.from(extractAllClaims(token));
     }
 
     /**
      * Validate an access token
      */
     public boolean validateAccessToken(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        final String type = extractClaim(token, claims -> claims.get("token_type", String.class));
-        return username.equals(userDetails.getUsername())
+        return validateAccessToken(verify(token), userDetails);
+    }
+
+    public boolean validateAccessToken(VerifiedToken token, UserDetails userDetails) {
+        return token.subject().equals(userDetails.getUsername())
                 && !isTokenExpired(token)
-                && "access".equals(type);
+                && token.isAccessToken();
     }
 
     /**
      * Validate a refresh token
      */
     public boolean validateRefreshToken(String refreshToken, UserDetails userDetails) {
-        final String username = extractUsername(refreshToken);
-        final String type = extractClaim(refreshToken, claims -> claims.get("token_type", String.class));
-        return username.equals(userDetails.getUsername())
-                && !isTokenExpired(refreshToken)
-                && "refresh".equals(type);
+        VerifiedToken token = verify(refreshToken);
+        return token.subject().equals(userDetails.getUsername())
+                && !isTokenExpired(token)
+                && token.isRefreshToken();
     }
 
     public String extractUsername(String token) {
@@ -149,19 +169,13 @@ public class JwtService {
     }
 
     private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSignKey())
-                .build()
+        return jwtParser
                 .parseSignedClaims(token)
                 .getPayload();
     }
 
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
-    }
-
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+    private boolean isTokenExpired(VerifiedToken token) {
+        return token.expiresAt() == null || token.expiresAt().isBefore(Instant.now());
     }
 
     public long getJwtExpirationMillis() {
@@ -0,0 +1,52 @@
+package com.ead.gearup.service.auth;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Safety net for stateless authentication. When a user's role or profile link
+ * changes, every access token issued to them before that moment stops being
+ * trusted on its claims alone and the filter falls back to a database load.
+ *
+ * State is kept in memory, so on a multi-node deployment the fallback window
+ * (jwt.stateless-auth.max-token-age) is what bounds staleness on other nodes.
+ */
+@Service
+public class TokenRevocationService {
+
+    private final Map<Long, Instant> notBefore = new ConcurrentHashMap<>();
+
+    @Value("${jwt.expiration}")
+    private long jwtExpirationMillis;
+
+    public void revokeTokensIssuedBefore(Long userId, Instant instant) {
+        if (userId == null) {
+            return;
+        }
+        notBefore.merge(userId, instant, (current, next) -> next.isAfter(current) ? next : current);
+        purgeExpired();
+    }
+
+    public void revokeAll(Long userId) {
+        // JWT iat has second precision, so round up to cover tokens issued in the same second
+        revokeTokensIssuedBefore(userId, Instant.now().plusSeconds(1));
+    }
+
+    public boolean isRevoked(VerifiedToken token) {
+        if (token.userId() == null || token.issuedAt() == null) {
+            return true;
+        }
+        Instant cutoff = notBefore.get(token.userId());
+        return cutoff != null && token.issuedAt().isBefore(cutoff);
+    }
+
+    // Entries older than the access token lifetime can no longer match a valid token
+    private void purgeExpired() {
+        Instant oldest = Instant.now().minusMillis(jwtExpirationMillis);
+        notBefore.values().removeIf(cutoff -> cutoff.isBefore(oldest));
+    }
+}
@@ -0,0 +1,106 @@
+package com.ead.gearup.service.auth;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.ead.gearup.model.User;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Bounded, TTL-evicting cache of verified users keyed by email, used by
+ * CustomUserDetailsService so authenticated requests don't hit the database.
+ *
+ * Entries are copies: callers always get their own detached User, so mutating
+ * it never leaks into the cache. Hit/miss/eviction counts are published as
+ * cache.* meters with cache=userDetails.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserDetailsCache {
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.cache.user-details.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.cache.user-details.max-size:10000}")
+    private long maxSize;
+
+    @Value("${app.cache.user-details.ttl:300000}")
+    private long ttlMillis;
+
+    private Cache<String, User> cache;
+
+    @PostConstruct
+    void init() {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(enabled ? maxSize : 0)
+                .expireAfterWrite(Duration.ofMillis(ttlMillis))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "userDetails");
+    }
+
+    public User get(String email) {
+        if (!enabled || email == null) {
+            return null;
+        }
+        User cached = cache.getIfPresent(email);
+        return cached != null ? copyOf(cached) : null;
+    }
+
+    public void put(User user) {
+        if (enabled && user != null && user.getEmail() != null) {
+            cache.put(user.getEmail(), copyOf(user));
+        }
+    }
+
+    /**
+     * Drop the entry now and again once the surrounding transaction commits, so a
+     * concurrent request can't re-cache the pre-commit state of the row
+     */
+    public void evict(String email) {
+        if (email == null) {
+            return;
+        }
+        cache.invalidate(email);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(email);
+                }
+            });
+        }
+    }
+
+    public void evictAll() {
+        cache.invalidateAll();
+    }
+
+    private static User copyOf(User user) {
+        return User.builder()
+                .userId(user.getUserId())
+                .email(user.getEmail())
+                .name(user.getName())
+                .password(user.getPassword())
+                .role(user.getRole())
+                .isVerified(user.getIsVerified())
+                .createdAt(user.getCreatedAt())
+                .lastLogin(user.getLastLogin())
+                .lastVerificationEmailSent(user.getLastVerificationEmailSent())
+                .build();
+    }
+}
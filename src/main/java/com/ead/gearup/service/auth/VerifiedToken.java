@@ -0,0 +1,45 @@
+package com.ead.gearup.service.auth;
+
+import java.time.Instant;
+
+import io.jsonwebtoken.Claims;
+
+/**
+ * Immutable view of a JWT whose signature and expiry have already been checked
+ */
+public record VerifiedToken(
+        String subject,
+        String role,
+        String tokenType,
+        Long userId,
+        Long entityId,
+        Instant issuedAt,
+        Instant expiresAt) {
+
+    public static VerifiedToken from(Claims claims) {
+        return new VerifiedToken(
+                claims.getSubject(),
+                claims.get("role", String.class),
+                claims.get("token_type", String.class),
+                claims.get("user_id", Long.class),
+                claims.get("entity_id", Long.class),
+                claims.getIssuedAt() != null ? claims.getIssuedAt().toInstant() : null,
+                claims.getExpiration() != null ? claims.getExpiration().toInstant() : null);
+    }
+
+    public boolean isAccessToken() {
+        return "access".equals(tokenType);
+    }
+
+    public boolean isRefreshToken() {
+        return "refresh".equals(tokenType);
+    }
+
+    /**
+     * Whether the token carries everything needed to rebuild a principal
+     * without loading the user from the database
+     */
+    public boolean hasIdentityClaims() {
+        return subject != null && role != null && userId != null;
+    }
+}
@@ -0,0 +1,12 @@
+package com.ead.gearup.service.email;
+
+import java.util.Map;
+
+import jakarta.mail.internet.MimeMessage;
+
+/**
+ * Outcome of EmailService.sendBulk: how many messages went out, and the error
+ * for each one that did not.
+ */
+public record BulkSendResult(int sent, Map<MimeMessage, Exception> failures) {
+}
@@ -0,0 +1,183 @@
+package com.ead.gearup.service.email;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.ead.gearup.enums.EmailOutboxStatus;
+import com.ead.gearup.model.EmailOutbox;
+import com.ead.gearup.service.EmailService;
+import com.ead.gearup.service.EmailVerificationService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Sends outbox emails in the background. A poll runs on a virtual thread right
+ * after each enqueuing commit and on a fixed delay (for retries and anything
+ * missed). Each claimed
+ * batch is sent with EmailService.sendBulk on a virtual thread, at most
+ * max-concurrency batches at a time, with no transaction or DB connection held
+ * while talking to SMTP.
+ *
+ * Delivery is at-least-once: if the process dies mid-send, the lease expires
+ * and the email is retried. Outcomes are counted in gearup.email.outbox{result}.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.mail.outbox.enabled", havingValue = "true", matchIfMissing = true)
+public class EmailOutboxDispatcher {
+
+    private final EmailOutboxService emailOutboxService;
+    private final EmailVerificationService emailVerificationService;
+    private final EmailService emailService;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.mail.outbox.batch-size:20}")
+    private int batchSize;
+
+    @Value("${app.mail.outbox.max-concurrency:4}")
+    private int maxConcurrency;
+
+    @Value("${app.mail.outbox.retention-days:7}")
+    private int retentionDays;
+
+    private ExecutorService senders;
+    private Semaphore sendPermits;
+    private final AtomicBoolean polling = new AtomicBoolean();
+    private final AtomicBoolean pollAgain = new AtomicBoolean();
+
+    @PostConstruct
+    void init() {
+        senders = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("email-outbox-", 0).factory());
+        sendPermits = new Semaphore(maxConcurrency);
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        senders.shutdown();
+        if (!senders.awaitTermination(10, TimeUnit.SECONDS)) {
+            senders.shutdownNow();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onEmailQueued(EmailQueuedEvent event) {
+        requestPoll();
+    }
+
+    // Only hands off: draining a backlog is paced by the send rate limit and would
+    // otherwise hold the shared scheduler thread for as long as it takes
+    @Scheduled(fixedDelayString = "${app.mail.outbox.poll-interval:5000}")
+    public void requestPoll() {
+        if (!senders.isShutdown()) {
+            senders.execute(this::poll);
+        }
+    }
+
+    void poll() {
+        // One poller at a time; a poll requested meanwhile runs once the current one is done
+        if (!polling.compareAndSet(false, true)) {
+            pollAgain.set(true);
+            return;
+        }
+        try {
+            List<EmailOutbox> claimed;
+            do {
+                pollAgain.set(false);
+                claimed = emailOutboxService.claimDue(batchSize);
+                if (!claimed.isEmpty()) {
+                    // Each claimed batch goes out over one SMTP connection
+                    List<EmailOutbox> batch = claimed;
+                    sendPermits.acquireUninterruptibly();
+                    senders.execute(() -> {
+                        try {
+                            sendBatch(batch);
+                        } finally {
+                            sendPermits.release();
+                        }
+                    });
+                }
+            } while (claimed.size() == batchSize || pollAgain.get());
+        } catch (RuntimeException e) {
+            log.warn("Email outbox poll failed: {}", e.getMessage());
+        } finally {
+            polling.set(false);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "PT1H", initialDelayString = "PT1M")
+    public void purgeSent() {
+        int purged = emailOutboxService.purgeSentBefore(LocalDateTime.now().minusDays(retentionDays));
+        if (purged > 0) {
+            log.info("Purged {} sent emails older than {} days", purged, retentionDays);
+        }
+    }
+
+    private void sendBatch(List<EmailOutbox> emails) {
+        Map<MimeMessage, EmailOutbox> byMessage = new LinkedHashMap<>();
+        for (EmailOutbox email : emails) {
+            try {
+                byMessage.put(compose(email), email);
+            } catch (Exception e) {
+                failed(email, e);
+            }
+        }
+        if (byMessage.isEmpty()) {
+            return;
+        }
+
+        BulkSendResult result = emailService.sendBulk(new ArrayList<>(byMessage.keySet()));
+        byMessage.forEach((message, email) -> {
+            Exception error = result.failures().get(message);
+            if (error == null) {
+                emailOutboxService.markSent(email.getEmailId());
+                meterRegistry.counter("gearup.email.outbox", "result", "sent").increment();
+            } else {
+                failed(email, error);
+            }
+        });
+    }
+
+    private void failed(EmailOutbox email, Exception e) {
+        EmailOutboxStatus status = emailOutboxService.markFailed(email.getEmailId(), e.getMessage());
+        if (status == EmailOutboxStatus.DEAD) {
+            log.error("Email {} ({}) to {} dead-lettered after {} attempts: {}", email.getEmailId(),
+                    email.getType(), email.getRecipient(), email.getAttempts(), e.getMessage());
+            meterRegistry.counter("gearup.email.outbox", "result", "dead").increment();
+        } else {
+            log.warn("Email {} ({}) attempt {} failed, will retry: {}", email.getEmailId(), email.getType(),
+                    email.getAttempts(), e.getMessage());
+            meterRegistry.counter("gearup.email.outbox", "result", "retry").increment();
+        }
+    }
+
+    private MimeMessage compose(EmailOutbox email) throws MessagingException {
+        Map<String, String> variables = emailOutboxService.variables(email);
+        return switch (email.getType()) {
+            case VERIFICATION -> emailVerificationService.composeVerificationEmail(email.getRecipient(),
+                    variables.get("name"));
+            case APPOINTMENT_REMINDER -> emailService.composeAppointmentReminder(email.getRecipient(), variables);
+        };
+    }
+}
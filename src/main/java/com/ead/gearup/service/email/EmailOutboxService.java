@@ -0,0 +1,167 @@
+package com.ead.gearup.service.email;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.ead.gearup.enums.EmailOutboxStatus;
+import com.ead.gearup.enums.EmailType;
+import com.ead.gearup.model.EmailOutbox;
+import com.ead.gearup.repository.EmailOutboxRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Transactional side of the email outbox: queueing, claiming due rows and
+ * recording delivery outcomes. Delivery itself happens in EmailOutboxDispatcher,
+ * outside any transaction.
+ */
+@Service
+@RequiredArgsConstructor
+public class EmailOutboxService {
+
+    private static final TypeReference<Map<String, String>> VARIABLES = new TypeReference<>() {
+    };
+
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${app.mail.outbox.max-attempts:8}")
+    private int maxAttempts;
+
+    @Value("${app.mail.outbox.initial-backoff:30000}")
+    private long initialBackoffMillis;
+
+    @Value("${app.mail.outbox.max-backoff:3600000}")
+    private long maxBackoffMillis;
+
+    @Value("${app.mail.outbox.lease:300000}")
+    private long leaseMillis;
+
+    /**
+     * Joins the caller's transaction, so the email is only sent if the caller
+     * commits, and never before
+     */
+    @Transactional
+    public void enqueue(EmailType type, String recipient, Map<String, String> variables) {
+        EmailOutbox email;
+        try {
+            email = emailOutboxRepository.save(EmailOutbox.builder()
+                    .type(type)
+                    .recipient(recipient)
+                    .payload(objectMapper.writeValueAsString(variables))
+                    .nextAttemptAt(LocalDateTime.now())
+                    .build());
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Email variables are not serializable", e);
+        }
+        eventPublisher.publishEvent(new EmailQueuedEvent(email.getEmailId()));
+    }
+
+    /**
+     * Queues many emails of one type with a single batched insert and one
+     * dispatcher wake-up, for jobs that produce them in bulk
+     */
+    @Transactional
+    public void enqueueAll(EmailType type, List<OutgoingEmail> outgoing) {
+        if (outgoing.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<EmailOutbox> emails = new ArrayList<>(outgoing.size());
+        for (OutgoingEmail email : outgoing) {
+            try {
+                emails.add(EmailOutbox.builder()
+                        .type(type)
+                        .recipient(email.recipient())
+                        .payload(objectMapper.writeValueAsString(email.variables()))
+                        .nextAttemptAt(now)
+                        .build());
+            } catch (JsonProcessingException e) {
+                throw new IllegalArgumentException("Email variables are not serializable", e);
+            }
+        }
+        List<EmailOutbox> saved = emailOutboxRepository.saveAll(emails);
+        eventPublisher.publishEvent(new EmailQueuedEvent(saved.get(saved.size() - 1).getEmailId()));
+    }
+
+    // Takes up to batchSize due rows and leases them, so no other dispatcher picks them up meanwhile
+    @Transactional
+    public List<EmailOutbox> claimDue(int batchSize) {
+        LocalDateTime now = LocalDateTime.now();
+        List<EmailOutbox> due = emailOutboxRepository.findDueForUpdate(EmailOutboxStatus.PENDING, now,
+                Limit.of(batchSize));
+        due.forEach(email -> {
+            email.setAttempts(email.getAttempts() + 1);
+            email.setNextAttemptAt(now.plus(Duration.ofMillis(leaseMillis)));
+        });
+        return due;
+    }
+
+    @Transactional
+    public void markSent(Long emailId) {
+        emailOutboxRepository.findById(emailId).ifPresent(email -> {
+            email.setStatus(EmailOutboxStatus.SENT);
+            email.setSentAt(LocalDateTime.now());
+            email.setLastError(null);
+        });
+    }
+
+    /**
+     * Schedules the next attempt with exponential backoff, or dead-letters the
+     * email once it has used all its attempts. Returns the resulting status.
+     */
+    @Transactional
+    public EmailOutboxStatus markFailed(Long emailId, String error) {
+        EmailOutbox email = emailOutboxRepository.findById(emailId).orElse(null);
+        if (email == null) {
+            return EmailOutboxStatus.DEAD;
+        }
+        email.setLastError(error != null && error.length() > 1000 ? error.substring(0, 1000) : error);
+
+        if (email.getAttempts() >= maxAttempts) {
+            email.setStatus(EmailOutboxStatus.DEAD);
+        } else {
+            email.setNextAttemptAt(LocalDateTime.now().plus(Duration.ofMillis(backoffMillis(email.getAttempts()))));
+        }
+        return email.getStatus();
+    }
+
+    @Transactional
+    public int purgeSentBefore(LocalDateTime before) {
+        return emailOutboxRepository.deleteSentBefore(EmailOutboxStatus.SENT, before);
+    }
+
+    public Map<String, String> variables(EmailOutbox email) {
+        if (email.getPayload() == null) {
+            return Map.of();
+        }
+        try {
+            return objectMapper.readValue(email.getPayload(), VARIABLES);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unreadable payload for email " + email.getEmailId(), e);
+        }
+    }
+
+    // initial * 2^(attempt - 1), capped, plus up to 10% jitter so failed batches don't retry in lockstep
+    private long backoffMillis(int attempt) {
+        long delay = initialBackoffMillis << Math.min(attempt - 1, 30);
+        if (delay <= 0 || delay > maxBackoffMillis) {
+            delay = maxBackoffMillis;
+        }
+        return delay + ThreadLocalRandom.current().nextLong(delay / 10 + 1);
+    }
+}
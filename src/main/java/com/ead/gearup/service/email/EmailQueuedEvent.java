@@ -0,0 +1,8 @@
+package com.ead.gearup.service.email;
+
+/**
+ * Published when an email is added to the outbox; delivered to listeners after
+ * the enqueuing transaction commits.
+ */
+public record EmailQueuedEvent(Long emailId) {
+}
@@ -0,0 +1,122 @@
+package com.ead.gearup.service.email;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.HtmlUtils;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.context.Context;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Email bodies rendered from precompiled shells. At startup each template goes
+ * through Thymeleaf once with a marker in place of every variable, and the output
+ * is split into static text and variable slots. A message is then just the shell
+ * with its HTML-escaped values filled in, with no template engine work per send.
+ *
+ * Startup also checks every shell against a real Thymeleaf render. A template
+ * whose output depends on more than plain substitution (conditionals, loops over
+ * a variable) fails that check and keeps being rendered by Thymeleaf.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EmailTemplates {
+
+    public static final String VERIFICATION = "verification-email.html";
+    public static final String APPOINTMENT_REMINDER = "appointment-reminder.html";
+
+    // Template -> the variables it uses
+    private static final Map<String, List<String>> TEMPLATES = Map.of(
+            VERIFICATION, List.of("name", "verificationUrl"),
+            APPOINTMENT_REMINDER, List.of("name", "date", "time", "vehicle"));
+
+    private static final String MARKER = "__gearup_var_%s__";
+
+    // Values with characters that need escaping, for the startup check
+    private static final String SAMPLE_VALUE = "<Tom & 'Jerry' \"%s\">?a=1&b=2";
+
+    private final TemplateEngine templateEngine;
+
+    private final Map<String, Shell> shells = new HashMap<>();
+
+    @PostConstruct
+    void init() {
+        TEMPLATES.forEach((template, variables) -> {
+            Shell shell = compile(template, variables);
+
+            Map<String, String> sample = new HashMap<>();
+            variables.forEach(variable -> sample.put(variable, SAMPLE_VALUE.formatted(variable)));
+            if (shell.render(sample).equals(renderWithThymeleaf(template, sample))) {
+                shells.put(template, shell);
+            } else {
+                log.warn("Email template {} is not a plain substitution shell; rendering it with Thymeleaf per message",
+                        template);
+            }
+        });
+        log.info("Precompiled {} of {} email templates", shells.size(), TEMPLATES.size());
+    }
+
+    public String render(String template, Map<String, String> variables) {
+        Shell shell = shells.get(template);
+        return shell != null ? shell.render(variables) : renderWithThymeleaf(template, variables);
+    }
+
+    public String renderWithThymeleaf(String template, Map<String, String> variables) {
+        Context context = new Context();
+        variables.forEach(context::setVariable);
+        return templateEngine.process(template, context);
+    }
+
+    private Shell compile(String template, List<String> variables) {
+        Map<String, String> markers = new HashMap<>();
+        variables.forEach(variable -> markers.put(variable, MARKER.formatted(variable)));
+        String rendered = renderWithThymeleaf(template, markers);
+
+        List<String> segments = new ArrayList<>();
+        List<String> slots = new ArrayList<>();
+        int position = 0;
+        while (true) {
+            int next = -1;
+            String nextVariable = null;
+            for (String variable : variables) {
+                int index = rendered.indexOf(markers.get(variable), position);
+                if (index >= 0 && (next < 0 || index < next)) {
+                    next = index;
+                    nextVariable = variable;
+                }
+            }
+            if (next < 0) {
+                break;
+            }
+            segments.add(rendered.substring(position, next));
+            slots.add(nextVariable);
+            position = next + markers.get(nextVariable).length();
+        }
+        segments.add(rendered.substring(position));
+
+        return new Shell(segments.toArray(String[]::new), slots.toArray(String[]::new), rendered.length());
+    }
+
+    // segments[0] slot[0] segments[1] slot[1] ... segments[n]
+    private record Shell(String[] segments, String[] slots, int sizeHint) {
+
+        String render(Map<String, String> variables) {
+            StringBuilder html = new StringBuilder(sizeHint + 64);
+            for (int i = 0; i < slots.length; i++) {
+                html.append(segments[i]);
+                String value = variables.get(slots[i]);
+                if (value != null) {
+                    html.append(HtmlUtils.htmlEscape(value));
+                }
+            }
+            return html.append(segments[slots.length]).toString();
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.ead.gearup.service.email;
+
+import java.util.Map;
+
+// One email to queue: who gets it and the template variables
+public record OutgoingEmail(String recipient, Map<String, String> variables) {
+}
@@ -0,0 +1,39 @@
+package com.ead.gearup.service.email;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Paces sends to a fixed number of messages per second across all threads.
+ * Callers reserve permits up front and sleep until their slot; a rate of 0 or
+ * less disables the limit.
+ */
+public class SendRateLimiter {
+
+    private final long nanosPerPermit;
+    private long nextFreeNanos = System.nanoTime();
+
+    public SendRateLimiter(double permitsPerSecond) {
+        this.nanosPerPermit = permitsPerSecond > 0 ? (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond) : 0;
+    }
+
+    public void acquire(int permits) {
+        long waitNanos = reserve(permits);
+        if (waitNanos > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private synchronized long reserve(int permits) {
+        if (nanosPerPermit == 0) {
+            return 0;
+        }
+        long now = System.nanoTime();
+        long start = Math.max(now, nextFreeNanos);
+        nextFreeNanos = start + permits * nanosPerPermit;
+        return start - now;
+    }
+}
@@ -0,0 +1,40 @@
+package com.ead.gearup.service.imports;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.ead.gearup.dto.response.ItemErrorDTO;
+
+/**
+ * Outcome of one committed chunk; applied to the job only after the chunk's transaction succeeded.
+ */
+public class ChunkResult {
+
+    private int imported;
+    private final List<ItemErrorDTO> skipped = new ArrayList<>();
+    private final List<ItemErrorDTO> failed = new ArrayList<>();
+
+    public void imported(int count) {
+        imported += count;
+    }
+
+    public void skip(ImportRow row, String reason) {
+        skipped.add(new ItemErrorDTO(row.number(), reason));
+    }
+
+    public void fail(ImportRow row, String reason) {
+        failed.add(new ItemErrorDTO(row.number(), reason));
+    }
+
+    public int getImported() {
+        return imported;
+    }
+
+    public List<ItemErrorDTO> getSkipped() {
+        return skipped;
+    }
+
+    public List<ItemErrorDTO> getFailed() {
+        return failed;
+    }
+}
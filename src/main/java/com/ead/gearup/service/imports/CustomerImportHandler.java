@@ -0,0 +1,84 @@
+package com.ead.gearup.service.imports;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.ead.gearup.enums.UserRole;
+import com.ead.gearup.model.Customer;
+import com.ead.gearup.model.User;
+import com.ead.gearup.repository.CustomerRepository;
+import com.ead.gearup.repository.UserRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Columns: email, name, phoneNumber. Rows whose email is already registered
+ * (or repeated earlier in the file) are skipped, ignoring case. Imported
+ * customers get the CUSTOMER role, no password and an unverified account, so
+ * they cannot sign in until a password is set for them; there is no
+ * self-service reset flow for that yet.
+ */
+@Component
+@RequiredArgsConstructor
+public class CustomerImportHandler implements ImportHandler {
+
+    private final UserRepository userRepository;
+    private final CustomerRepository customerRepository;
+
+    @Override
+    public ImportType type() {
+        return ImportType.CUSTOMERS;
+    }
+
+    @Override
+    @Transactional
+    public ChunkResult importChunk(List<ImportRow> rows) {
+        ChunkResult result = new ChunkResult();
+
+        List<String> emails = rows.stream()
+                .map(row -> normalizeEmail(row.get("email")))
+                .filter(Objects::nonNull)
+                .toList();
+        Set<String> taken = emails.isEmpty() ? new HashSet<>()
+                : new HashSet<>(userRepository.findExistingEmails(emails));
+
+        List<Customer> customers = new ArrayList<>();
+        for (ImportRow row : rows) {
+            String email = normalizeEmail(row.get("email"));
+            String name = row.get("name");
+
+            if (email == null || !email.contains("@")) {
+                result.fail(row, "Invalid email");
+                continue;
+            }
+            if (name == null) {
+                result.fail(row, "Name is required");
+                continue;
+            }
+            if (!taken.add(email)) {
+                result.skip(row, "Email already exists: " + email);
+                continue;
+            }
+
+            customers.add(Customer.builder()
+                    .user(User.builder().email(email).name(name).role(UserRole.CUSTOMER).build())
+                    .phoneNumber(row.get("phoneNumber"))
+                    .build());
+        }
+
+        customerRepository.saveAll(customers);
+        result.imported(customers.size());
+        return result;
+    }
+
+    private static String normalizeEmail(String email) {
+        return email == null ? null : email.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,15 @@
+package com.ead.gearup.service.imports;
+
+import java.util.List;
+
+/**
+ * Imports one chunk of rows of a given type. Implementations validate each row,
+ * dedupe against the database with one query per key, and insert the survivors
+ * with saveAll. Each call runs in its own transaction.
+ */
+public interface ImportHandler {
+
+    ImportType type();
+
+    ChunkResult importChunk(List<ImportRow> rows);
+}
@@ -0,0 +1,103 @@
+package com.ead.gearup.service.imports;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.ead.gearup.dto.imports.ImportJobDTO;
+import com.ead.gearup.dto.response.ItemErrorDTO;
+
+/**
+ * Mutable state of one running import, written by the worker thread and read by
+ * status polls.
+ */
+class ImportJob {
+
+    static final int MAX_ERRORS = 100;
+
+    private final String id;
+    private final ImportType type;
+    private final String fileName;
+    private final AtomicLong processed = new AtomicLong();
+    private final AtomicLong imported = new AtomicLong();
+    private final AtomicLong skipped = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final List<ItemErrorDTO> errors = new ArrayList<>();
+    private volatile ImportStatus status = ImportStatus.QUEUED;
+    private volatile Instant startedAt;
+    private volatile Instant finishedAt;
+
+    ImportJob(String id, ImportType type, String fileName) {
+        this.id = id;
+        this.type = type;
+        this.fileName = fileName;
+    }
+
+    String getId() {
+        return id;
+    }
+
+    ImportType getType() {
+        return type;
+    }
+
+    void start() {
+        startedAt = Instant.now();
+        status = ImportStatus.RUNNING;
+    }
+
+    void finish(ImportStatus finalStatus) {
+        finishedAt = Instant.now();
+        status = finalStatus;
+    }
+
+    void apply(int rows, ChunkResult result) {
+        processed.addAndGet(rows);
+        imported.addAndGet(result.getImported());
+        skipped.addAndGet(result.getSkipped().size());
+        failed.addAndGet(result.getFailed().size());
+        addErrors(result.getSkipped());
+        addErrors(result.getFailed());
+    }
+
+    void failRows(List<ImportRow> rows, String reason) {
+        processed.addAndGet(rows.size());
+        failed.addAndGet(rows.size());
+        addErrors(rows.stream().map(row -> new ItemErrorDTO(row.number(), reason)).toList());
+    }
+
+    void addError(ItemErrorDTO error) {
+        addErrors(List.of(error));
+    }
+
+    private synchronized void addErrors(List<ItemErrorDTO> newErrors) {
+        for (ItemErrorDTO error : newErrors) {
+            if (errors.size() >= MAX_ERRORS) {
+                return;
+            }
+            errors.add(error);
+        }
+    }
+
+    synchronized ImportJobDTO toDto() {
+        Instant end = finishedAt != null ? finishedAt : Instant.now();
+        double seconds = startedAt == null ? 0 : Duration.between(startedAt, end).toMillis() / 1000.0;
+
+        return ImportJobDTO.builder()
+                .jobId(id)
+                .type(type)
+                .status(status)
+                .fileName(fileName)
+                .processed(processed.get())
+                .imported(imported.get())
+                .skipped(skipped.get())
+                .failed(failed.get())
+                .errors(List.copyOf(errors))
+                .startedAt(startedAt)
+                .finishedAt(finishedAt)
+                .rowsPerSecond(seconds > 0 ? processed.get() / seconds : 0)
+                .build();
+    }
+}
@@ -0,0 +1,180 @@
+package com.ead.gearup.service.imports;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Reads records one at a time from CSV (header row first, RFC 4180 quoting) or
+ * NDJSON (one flat JSON object per line), so files of any size are read in
+ * constant memory.
+ */
+public abstract class ImportRecordReader implements Iterator<ImportRow>, Closeable {
+
+    public enum Format {
+        CSV,
+        NDJSON;
+
+        public static Format fromFileName(String fileName) {
+            String name = fileName == null ? "" : fileName.toLowerCase(Locale.ROOT);
+            if (name.endsWith(".csv")) {
+                return CSV;
+            }
+            if (name.endsWith(".ndjson") || name.endsWith(".jsonl")) {
+                return NDJSON;
+            }
+            throw new IllegalArgumentException("Unsupported import file, expected .csv or .ndjson: " + fileName);
+        }
+    }
+
+    public static ImportRecordReader open(Reader reader, Format format, ObjectMapper objectMapper) {
+        return format == Format.CSV ? new CsvReader(reader) : new NdjsonReader(reader, objectMapper);
+    }
+
+    private static final class CsvReader extends ImportRecordReader {
+
+        private final BufferedReader reader;
+        private final List<String> header;
+        private List<String> nextRecord;
+        private int number;
+
+        CsvReader(Reader reader) {
+            this.reader = new BufferedReader(reader);
+            List<String> columns = readRecord();
+            if (columns == null) {
+                throw new IllegalArgumentException("CSV file is empty");
+            }
+            this.header = columns.stream().map(c -> c.trim().toLowerCase(Locale.ROOT)).toList();
+            this.nextRecord = readRecord();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextRecord != null;
+        }
+
+        @Override
+        public ImportRow next() {
+            if (nextRecord == null) {
+                throw new NoSuchElementException();
+            }
+            Map<String, String> values = new HashMap<>();
+            for (int i = 0; i < header.size() && i < nextRecord.size(); i++) {
+                values.put(header.get(i), nextRecord.get(i));
+            }
+            nextRecord = readRecord();
+            return new ImportRow(++number, values);
+        }
+
+        // Next record, or null at end of input; blank lines are skipped
+        private List<String> readRecord() {
+            try {
+                List<String> fields = new ArrayList<>();
+                StringBuilder field = new StringBuilder();
+                boolean quoted = false;
+                boolean any = false;
+                int c;
+                while ((c = reader.read()) != -1) {
+                    any = true;
+                    char ch = (char) c;
+                    if (quoted) {
+                        if (ch == '"') {
+                            reader.mark(1);
+                            int peek = reader.read();
+                            if (peek == '"') {
+                                field.append('"');
+                            } else {
+                                quoted = false;
+                                if (peek != -1) {
+                                    reader.reset();
+                                }
+                            }
+                        } else {
+                            field.append(ch);
+                        }
+                    } else if (ch == '"') {
+                        quoted = true;
+                    } else if (ch == ',') {
+                        fields.add(field.toString());
+                        field.setLength(0);
+                    } else if (ch == '\n' || ch == '\r') {
+                        if (ch == '\r') {
+                            reader.mark(1);
+                            if (reader.read() != '\n') {
+                                reader.reset();
+                            }
+                        }
+                        if (fields.isEmpty() && field.isEmpty()) {
+                            any = false;
+                            continue;
+                        }
+                        fields.add(field.toString());
+                        return fields;
+                    } else {
+                        field.append(ch);
+                    }
+                }
+                if (!any) {
+                    return null;
+                }
+                fields.add(field.toString());
+                return fields;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+    }
+
+    private static final class NdjsonReader extends ImportRecordReader {
+
+        private final MappingIterator<JsonNode> records;
+        private int number;
+
+        NdjsonReader(Reader reader, ObjectMapper objectMapper) {
+            try {
+                this.records = objectMapper.readerFor(JsonNode.class).readValues(reader);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return records.hasNext();
+        }
+
+        @Override
+        public ImportRow next() {
+            JsonNode node = records.next();
+            Map<String, String> values = new HashMap<>();
+            node.properties().forEach(entry -> {
+                JsonNode value = entry.getValue();
+                values.put(entry.getKey().toLowerCase(Locale.ROOT), value.isNull() ? null : value.asText());
+            });
+            return new ImportRow(++number, values);
+        }
+
+        @Override
+        public void close() throws IOException {
+            records.close();
+        }
+    }
+}
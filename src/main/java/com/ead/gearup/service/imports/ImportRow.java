@@ -0,0 +1,20 @@
+package com.ead.gearup.service.imports;
+
+import java.util.Map;
+
+/**
+ * One parsed input record. Column names are matched case-insensitively and
+ * values come back trimmed, with blanks as null. number is the 1-based data row
+ * (the CSV header does not count).
+ */
+public record ImportRow(int number, Map<String, String> values) {
+
+    public String get(String column) {
+        String value = values.get(column.toLowerCase());
+        if (value == null) {
+            return null;
+        }
+        String trimmed = value.trim();
+        return trimmed.isEmpty() ? null : trimmed;
+    }
+}
@@ -0,0 +1,162 @@
+package com.ead.gearup.service.imports;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.ead.gearup.dto.imports.ImportJobDTO;
+import com.ead.gearup.dto.response.ItemErrorDTO;
+import com.ead.gearup.exception.ImportJobNotFoundException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Runs CSV/NDJSON imports in the background. The upload is spooled to a temp
+ * file, then read row by row and handed to the type's ImportHandler in chunks,
+ * one transaction per chunk, so memory stays flat and a bad chunk never rolls
+ * back the rows already imported.
+ */
+@Slf4j
+@Service
+public class ImportService {
+
+    private final Map<ImportType, ImportHandler> handlers = new EnumMap<>(ImportType.class);
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.import.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${app.import.max-concurrent-jobs:2}")
+    private int maxConcurrentJobs;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    private ExecutorService executor;
+
+    // Finished jobs stay visible for an hour after the last status poll
+    private final Cache<String, ImportJob> jobs = Caffeine.newBuilder()
+            .expireAfterAccess(Duration.ofHours(1))
+            .build();
+
+    public ImportService(List<ImportHandler> handlers, ObjectMapper objectMapper) {
+        handlers.forEach(handler -> this.handlers.put(handler.type(), handler));
+        this.objectMapper = objectMapper;
+    }
+
+    @PostConstruct
+    void init() {
+        // Still a fixed pool in virtual-thread mode: it caps concurrent jobs, not threads
+        if (virtualThreads) {
+            executor = Executors.newFixedThreadPool(maxConcurrentJobs, Thread.ofVirtual().name("import-", 1).factory());
+            return;
+        }
+        AtomicInteger threads = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(maxConcurrentJobs, runnable -> {
+            Thread thread = new Thread(runnable, "import-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        executor.shutdownNow();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    public ImportJobDTO startImport(ImportType type, MultipartFile file) {
+        if (file == null || file.isEmpty()) {
+            throw new IllegalArgumentException("Import file is empty");
+        }
+        ImportRecordReader.Format format = ImportRecordReader.Format.fromFileName(file.getOriginalFilename());
+
+        // The multipart part is gone once the request ends, so keep our own copy
+        Path spool;
+        try (InputStream in = file.getInputStream()) {
+            spool = Files.createTempFile("gearup-import-", ".tmp");
+            Files.copy(in, spool, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not store import file", e);
+        }
+
+        ImportJob job = new ImportJob(UUID.randomUUID().toString(), type, file.getOriginalFilename());
+        jobs.put(job.getId(), job);
+        executor.execute(() -> run(job, spool, format));
+        return job.toDto();
+    }
+
+    public ImportJobDTO getJob(String jobId) {
+        ImportJob job = jobs.getIfPresent(jobId);
+        if (job == null) {
+            throw new ImportJobNotFoundException("Import job not found: " + jobId);
+        }
+        return job.toDto();
+    }
+
+    private void run(ImportJob job, Path spool, ImportRecordReader.Format format) {
+        ImportHandler handler = handlers.get(job.getType());
+        job.start();
+        try (Reader reader = Files.newBufferedReader(spool, StandardCharsets.UTF_8);
+                ImportRecordReader records = ImportRecordReader.open(reader, format, objectMapper)) {
+
+            List<ImportRow> chunk = new ArrayList<>(chunkSize);
+            while (records.hasNext()) {
+                chunk.add(records.next());
+                if (chunk.size() == chunkSize) {
+                    importChunk(job, handler, chunk);
+                    chunk = new ArrayList<>(chunkSize);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                importChunk(job, handler, chunk);
+            }
+            job.finish(ImportStatus.COMPLETED);
+        } catch (Exception e) {
+            log.warn("Import {} ({}) aborted: {}", job.getId(), job.getType(), e.getMessage());
+            job.addError(new ItemErrorDTO(0, "Import aborted: " + e.getMessage()));
+            job.finish(ImportStatus.FAILED);
+        } finally {
+            try {
+                Files.deleteIfExists(spool);
+            } catch (IOException e) {
+                log.warn("Could not delete import spool file {}", spool, e);
+            }
+        }
+    }
+
+    // A chunk is all-or-nothing: if its transaction fails, every row in it is reported as failed
+    private void importChunk(ImportJob job, ImportHandler handler, List<ImportRow> chunk) {
+        try {
+            job.apply(chunk.size(), handler.importChunk(chunk));
+        } catch (RuntimeException e) {
+            log.warn("Import {} chunk starting at row {} failed: {}", job.getId(), chunk.get(0).number(),
+                    e.getMessage());
+            job.failRows(chunk, "Chunk rolled back: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.ead.gearup.service.imports;
+
+public enum ImportStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,6 @@
+package com.ead.gearup.service.imports;
+
+public enum ImportType {
+    CUSTOMERS,
+    VEHICLES
+}
@@ -0,0 +1,129 @@
+package com.ead.gearup.service.imports;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.ead.gearup.model.Vehicle;
+import com.ead.gearup.repository.CustomerRepository;
+import com.ead.gearup.repository.VehicleRepository;
+import com.ead.gearup.service.VehicleLookupService;
+import com.ead.gearup.util.VehicleKeys;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Columns: vin, licensePlate, make, model, year, customerEmail. The owner must
+ * already exist; rows with a VIN or plate that is registered (or repeated
+ * earlier in the file) are skipped. VINs and plates are compared on their
+ * canonical forms (see VehicleKeys), like the unique constraints do.
+ */
+@Component
+@RequiredArgsConstructor
+public class VehicleImportHandler implements ImportHandler {
+
+    private final VehicleRepository vehicleRepository;
+    private final CustomerRepository customerRepository;
+    private final VehicleLookupService vehicleLookupService;
+
+    @Override
+    public ImportType type() {
+        return ImportType.VEHICLES;
+    }
+
+    @Override
+    @Transactional
+    public ChunkResult importChunk(List<ImportRow> rows) {
+        ChunkResult result = new ChunkResult();
+
+        // Three lookups for the whole chunk instead of three per row
+        Set<String> takenVins = new HashSet<>(
+                lookup(rows, "vin", VehicleKeys::canonical, vehicleRepository::findExistingCanonicalVins));
+        Set<String> takenPlates = new HashSet<>(
+                lookup(rows, "licensePlate", VehicleKeys::canonical, vehicleRepository::findExistingCanonicalPlates));
+        Map<String, Long> owners = lookup(rows, "customerEmail", VehicleImportHandler::emailKey,
+                customerRepository::findIdsByEmails).stream()
+                .collect(Collectors.toMap(CustomerRepository.CustomerIdByEmail::getEmail,
+                        CustomerRepository.CustomerIdByEmail::getCustomerId, (a, b) -> a));
+
+        List<Vehicle> vehicles = new ArrayList<>();
+        for (ImportRow row : rows) {
+            String vin = row.get("vin");
+            String licensePlate = row.get("licensePlate");
+            String ownerEmail = row.get("customerEmail");
+
+            if (vin == null || licensePlate == null) {
+                result.fail(row, "VIN and license plate are required");
+                continue;
+            }
+            Long customerId = ownerEmail == null ? null : owners.get(emailKey(ownerEmail));
+            if (customerId == null) {
+                result.fail(row, "Unknown customer: " + ownerEmail);
+                continue;
+            }
+            Integer year;
+            try {
+                year = row.get("year") == null ? null : Integer.valueOf(row.get("year"));
+            } catch (NumberFormatException e) {
+                result.fail(row, "Invalid year: " + row.get("year"));
+                continue;
+            }
+            try {
+                VehicleKeys.requireKeys(vin, "VIN");
+                VehicleKeys.requireKeys(licensePlate, "License plate");
+            } catch (IllegalArgumentException e) {
+                result.fail(row, e.getMessage());
+                continue;
+            }
+            String vinKey = VehicleKeys.canonical(vin);
+            String plateKey = VehicleKeys.canonical(licensePlate);
+            if (takenVins.contains(vinKey)) {
+                result.skip(row, "VIN already exists: " + vin);
+                continue;
+            }
+            if (takenPlates.contains(plateKey)) {
+                result.skip(row, "License plate already exists: " + licensePlate);
+                continue;
+            }
+            takenVins.add(vinKey);
+            takenPlates.add(plateKey);
+
+            vehicles.add(Vehicle.builder()
+                    .vin(vin)
+                    .licensePlate(licensePlate)
+                    .make(row.get("make"))
+                    .model(row.get("model"))
+                    .year(year)
+                    .customer(customerRepository.getReferenceById(customerId))
+                    .build());
+        }
+
+        vehicleRepository.saveAll(vehicles);
+        if (!vehicles.isEmpty()) {
+            vehicleLookupService.evictAll();
+        }
+        result.imported(vehicles.size());
+        return result;
+    }
+
+    // Stored emails are lowercase (see AuthService.createUser), so a plain IN on this key uses the unique index
+    private static String emailKey(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static <T> List<T> lookup(List<ImportRow> rows, String column, Function<String, String> toKey,
+            Function<List<String>, List<T>> query) {
+        List<String> keys = rows.stream().map(row -> row.get(column)).filter(Objects::nonNull).map(toKey)
+                .distinct().toList();
+        return keys.isEmpty() ? List.of() : query.apply(keys);
+    }
+}
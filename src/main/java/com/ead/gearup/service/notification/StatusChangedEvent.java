@@ -0,0 +1,26 @@
+package com.ead.gearup.service.notification;
+
+import com.ead.gearup.enums.AppointmentStatus;
+import com.ead.gearup.enums.TaskStatus;
+
+/**
+ * Published when an appointment or task changes status; pushed to the
+ * appointment's customer and mechanic once the change is committed.
+ */
+public record StatusChangedEvent(String type, Long appointmentId, Long taskId, String status,
+        String previousStatus) {
+
+    public static final String APPOINTMENT = "APPOINTMENT";
+    public static final String TASK = "TASK";
+
+    public static StatusChangedEvent appointment(Long appointmentId, AppointmentStatus previous,
+            AppointmentStatus status) {
+        return new StatusChangedEvent(APPOINTMENT, appointmentId, null, status.name(),
+                previous != null ? previous.name() : null);
+    }
+
+    public static StatusChangedEvent task(Long appointmentId, Long taskId, TaskStatus previous, TaskStatus status) {
+        return new StatusChangedEvent(TASK, appointmentId, taskId, status.name(),
+                previous != null ? previous.name() : null);
+    }
+}
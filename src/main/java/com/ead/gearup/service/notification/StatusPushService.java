@@ -0,0 +1,69 @@
+package com.ead.gearup.service.notification;
+
+import java.time.Instant;
+
+import org.springframework.messaging.MessagingException;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.ead.gearup.dto.notification.StatusUpdateDTO;
+import com.ead.gearup.repository.AppointmentRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Pushes committed status changes to the customer and the assigned mechanic of
+ * the appointment, on /user/queue/status. Users with no open connection are
+ * skipped without touching the database; a failed push never affects the change
+ * itself, since clients resync over REST when they reconnect.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StatusPushService {
+
+    public static final String STATUS_QUEUE = "/queue/status";
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final SimpUserRegistry simpUserRegistry;
+    private final AppointmentRepository appointmentRepository;
+    private final MeterRegistry meterRegistry;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onStatusChanged(StatusChangedEvent event) {
+        if (simpUserRegistry.getUserCount() == 0) {
+            return;
+        }
+
+        StatusUpdateDTO update = StatusUpdateDTO.builder()
+                .type(event.type())
+                .appointmentId(event.appointmentId())
+                .taskId(event.taskId())
+                .status(event.status())
+                .previousStatus(event.previousStatus())
+                .changedAt(Instant.now())
+                .build();
+
+        appointmentRepository.findStatusRecipients(event.appointmentId()).ifPresent(recipients -> {
+            push(recipients.getCustomerEmail(), update);
+            push(recipients.getMechanicEmail(), update);
+        });
+    }
+
+    private void push(String username, StatusUpdateDTO update) {
+        if (username == null || simpUserRegistry.getUser(username) == null) {
+            return;
+        }
+        try {
+            messagingTemplate.convertAndSendToUser(username, STATUS_QUEUE, update);
+            meterRegistry.counter("gearup.websocket.pushes", "type", update.getType()).increment();
+        } catch (MessagingException e) {
+            log.warn("Status push to {} failed: {}", username, e.getMessage());
+        }
+    }
+}
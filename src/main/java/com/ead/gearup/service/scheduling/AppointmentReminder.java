@@ -0,0 +1,12 @@
+package com.ead.gearup.service.scheduling;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * What a reminder email needs about one appointment, read in a single projection
+ * query together with the customer and vehicle.
+ */
+public record AppointmentReminder(Long appointmentId, LocalDate date, LocalTime startTime, String email,
+        String name, String licensePlate, String model) {
+}
@@ -0,0 +1,158 @@
+package com.ead.gearup.service.scheduling;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.ead.gearup.enums.AppointmentStatus;
+import com.ead.gearup.enums.EmailType;
+import com.ead.gearup.repository.AppointmentRepository;
+import com.ead.gearup.service.email.EmailOutboxService;
+import com.ead.gearup.service.email.OutgoingEmail;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Queues a reminder email for every active appointment starting within the
+ * lead time. Runs on every node, but only the holder of the scheduler lease
+ * does the work.
+ *
+ * Appointments are read in pages through a range seek on the unreminded rows
+ * of the window, never a table scan. Each page is marked reminded and its emails
+ * queued in one short transaction, which makes runs idempotent and never holds
+ * locks beyond one page. Delivery goes through the email outbox, which
+ * sends in batches with EmailService.sendBulk.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.reminders.enabled", havingValue = "true", matchIfMissing = true)
+public class AppointmentReminderScheduler {
+
+    static final String LEASE_NAME = "appointment-reminders";
+
+    // Only PENDING and CONFIRMED appointments get reminders. Given as exclusions so the
+    // planner seeks on the reminder index rather than the status one
+    private static final Set<AppointmentStatus> NOT_REMINDED = EnumSet.of(AppointmentStatus.IN_PROGRESS,
+            AppointmentStatus.COMPLETED, AppointmentStatus.CANCELED);
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("EEEE, d MMMM yyyy",
+            Locale.ENGLISH);
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("HH:mm");
+
+    private final AppointmentRepository appointmentRepository;
+    private final EmailOutboxService emailOutboxService;
+    private final SchedulerLeaseService schedulerLeaseService;
+    private final PlatformTransactionManager transactionManager;
+    private final MeterRegistry meterRegistry;
+
+    // How long before the appointment the reminder goes out (milliseconds)
+    @Value("${app.reminders.lead-time:86400000}")
+    private long leadTimeMillis;
+
+    @Value("${app.reminders.batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.reminders.lease:300000}")
+    private long leaseMillis;
+
+    @Scheduled(fixedDelayString = "${app.reminders.interval:60000}",
+            initialDelayString = "${app.reminders.initial-delay:30000}")
+    public void run() {
+        if (!schedulerLeaseService.tryAcquire(LEASE_NAME, Duration.ofMillis(leaseMillis))) {
+            log.debug("Appointment reminders are run by another node");
+            return;
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            int queued = queueDueReminders(LocalDateTime.now());
+            if (queued > 0) {
+                log.info("Queued {} appointment reminders", queued);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Appointment reminder run failed: {}", e.getMessage());
+        } finally {
+            sample.stop(meterRegistry.timer("gearup.reminders.run"));
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        try {
+            schedulerLeaseService.release(LEASE_NAME);
+        } catch (RuntimeException e) {
+            log.debug("Could not release the reminder lease: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Queues reminders for appointments starting in [now, now + lead time] that
+     * have none yet. Returns how many were queued.
+     */
+    public int queueDueReminders(LocalDateTime now) {
+        LocalDateTime until = now.plus(Duration.ofMillis(leadTimeMillis));
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        int queued = 0;
+        List<AppointmentReminder> page;
+        do {
+            page = appointmentRepository.findRemindersDue(now.toLocalDate(), now.toLocalTime(),
+                    until.toLocalDate(), until.toLocalTime(), NOT_REMINDED, Limit.of(batchSize));
+            if (page.isEmpty()) {
+                break;
+            }
+            List<AppointmentReminder> due = page;
+            transaction.executeWithoutResult(status -> queue(due, now));
+            queued += due.size();
+            meterRegistry.counter("gearup.reminders.queued").increment(due.size());
+
+            if (page.size() == batchSize
+                    && !schedulerLeaseService.tryAcquire(LEASE_NAME, Duration.ofMillis(leaseMillis))) {
+                log.warn("Lost the reminder lease after queueing {} reminders; stopping this run", queued);
+                break;
+            }
+        } while (page.size() == batchSize);
+
+        return queued;
+    }
+
+    private void queue(List<AppointmentReminder> reminders, LocalDateTime now) {
+        int marked = appointmentRepository.markReminded(
+                reminders.stream().map(AppointmentReminder::appointmentId).toList(), now);
+        if (marked != reminders.size()) {
+            // Rolls the page back; the next run picks up whatever is still unreminded
+            throw new IllegalStateException("Reminders for some appointments were queued by another run");
+        }
+        emailOutboxService.enqueueAll(EmailType.APPOINTMENT_REMINDER,
+                reminders.stream().map(this::toEmail).toList());
+    }
+
+    private OutgoingEmail toEmail(AppointmentReminder reminder) {
+        String vehicle = reminder.model() != null
+                ? reminder.licensePlate() + " (" + reminder.model() + ")"
+                : reminder.licensePlate();
+        return new OutgoingEmail(reminder.email(), Map.of(
+                "name", reminder.name(),
+                "date", reminder.date().format(DATE_FORMAT),
+                "time", reminder.startTime().format(TIME_FORMAT),
+                "vehicle", vehicle));
+    }
+}
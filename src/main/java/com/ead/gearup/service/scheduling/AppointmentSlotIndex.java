@@ -0,0 +1,421 @@
+package com.ead.gearup.service.scheduling;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.ead.gearup.enums.AppointmentStatus;
+import com.ead.gearup.exception.AppointmentConflictException;
+import com.ead.gearup.repository.AppointmentRepository;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * In-memory index of mechanic bookings, organised by day and employee.
+ *
+ * Each (day, employee) pair keeps its bookings in a tree ordered by start time,
+ * so an overlap check is a single O(log n) descent plus a scan bounded by the
+ * longest booking of that day. The database stays the source of truth: the
+ * index is loaded from AppointmentRepository at startup, updated by
+ * AppointmentService on every write, and re-checks a reported conflict against
+ * the database before rejecting a booking (covers rows removed by cascades).
+ *
+ * The index is per node and only sees bookings written through it, so it is a
+ * fast pre-check, not the double-booking guard: AppointmentService re-checks
+ * every booking against the appointments table under a lock on the mechanic's
+ * employee row before saving. Past days are dropped nightly.
+ */
+@Component
+@RequiredArgsConstructor
+public class AppointmentSlotIndex {
+
+    private static final Comparator<BookedSlot> BY_START = Comparator
+            .comparing(BookedSlot::startTime)
+            .thenComparing(BookedSlot::endTime)
+            .thenComparing(BookedSlot::appointmentId);
+
+    private final AppointmentRepository appointmentRepository;
+
+    private final NavigableMap<LocalDate, Map<Long, DaySchedule>> days = new TreeMap<>();
+    private final Map<Long, BookedSlot> byAppointment = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    @Value("${app.scheduling.workday-start:08:00}")
+    private String workdayStartValue;
+
+    @Value("${app.scheduling.workday-end:18:00}")
+    private String workdayEndValue;
+
+    private LocalTime workdayStart;
+    private LocalTime workdayEnd;
+
+    @PostConstruct
+    void init() {
+        this.workdayStart = LocalTime.parse(workdayStartValue);
+        this.workdayEnd = LocalTime.parse(workdayEndValue);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        reload(LocalDate.now());
+    }
+
+    /**
+     * Rebuild the index from the database for every booking on or after the given day
+     */
+    public void reload(LocalDate from) {
+        List<BookedSlot> slots = appointmentRepository.findBookedSlotsFrom(from, AppointmentStatus.CANCELED);
+
+        lock.writeLock().lock();
+        try {
+            days.clear();
+            byAppointment.clear();
+            slots.forEach(this::insert);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public LocalTime getWorkdayStart() {
+        return workdayStart;
+    }
+
+    public LocalTime getWorkdayEnd() {
+        return workdayEnd;
+    }
+
+    /**
+     * Bookings of the employee that overlap [start, end) on the given day
+     */
+    public List<BookedSlot> findConflicts(Long employeeId, LocalDate date, LocalTime start, LocalTime end,
+            Long excludeAppointmentId) {
+        lock.readLock().lock();
+        try {
+            DaySchedule schedule = schedule(employeeId, date);
+            return schedule != null ? schedule.overlapping(start, end, excludeAppointmentId) : List.of();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean isAvailable(Long employeeId, LocalDate date, LocalTime start, LocalTime end,
+            Long excludeAppointmentId) {
+        return findConflicts(employeeId, date, start, end, excludeAppointmentId).isEmpty();
+    }
+
+    /**
+     * Atomically check and record a booking, replacing any previous booking of the
+     * same appointment. Returns the replaced booking (or null) so the caller can
+     * restore it if persisting the appointment fails.
+     */
+    public BookedSlot book(BookedSlot slot) {
+        List<BookedSlot> conflicts = findConflicts(slot.employeeId(), slot.date(), slot.startTime(),
+                slot.endTime(), slot.appointmentId());
+
+        if (!conflicts.isEmpty()) {
+            refresh(conflicts);
+        }
+
+        lock.writeLock().lock();
+        try {
+            DaySchedule schedule = schedule(slot.employeeId(), slot.date());
+            if (schedule != null && !schedule.overlapping(slot.startTime(), slot.endTime(),
+                    slot.appointmentId()).isEmpty()) {
+                throw new AppointmentConflictException("Mechanic " + slot.employeeId() + " is already booked on "
+                        + slot.date() + " between " + slot.startTime() + " and " + slot.endTime());
+            }
+
+            BookedSlot previous = remove(slot.appointmentId());
+            insert(slot);
+            return previous;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Put the index back to how it was before a failed book() call
+     */
+    public void restore(Long appointmentId, BookedSlot previous) {
+        lock.writeLock().lock();
+        try {
+            remove(appointmentId);
+            if (previous != null) {
+                insert(previous);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove an appointment's booking, returning it (or null) for restore()
+     */
+    public BookedSlot release(Long appointmentId) {
+        lock.writeLock().lock();
+        try {
+            return remove(appointmentId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Bookings of an employee on a day, ordered by start time
+     */
+    public List<BookedSlot> getBookings(Long employeeId, LocalDate date) {
+        lock.readLock().lock();
+        try {
+            DaySchedule schedule = schedule(employeeId, date);
+            return schedule != null ? List.copyOf(schedule.slots) : List.of();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Bookings per employee for every day in [from, to], copied under a single read lock
+     */
+    public Map<LocalDate, Map<Long, List<BookedSlot>>> getBookings(LocalDate from, LocalDate to) {
+        lock.readLock().lock();
+        try {
+            Map<LocalDate, Map<Long, List<BookedSlot>>> result = new TreeMap<>();
+            days.subMap(from, true, to, true).forEach((date, schedules) -> {
+                Map<Long, List<BookedSlot>> perEmployee = new HashMap<>();
+                schedules.forEach((employeeId, schedule) -> perEmployee.put(employeeId,
+                        List.copyOf(schedule.slots)));
+                result.put(date, perEmployee);
+            });
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Free windows of at least minDuration within working hours, given a day's
+     * bookings ordered by start time. Nothing before notBefore is offered.
+     */
+    public List<TimeSlot> freeWindows(LocalDate date, List<BookedSlot> bookings, LocalTime notBefore,
+            Duration minDuration) {
+        List<TimeSlot> windows = new ArrayList<>();
+        int cursor = workdayStart.toSecondOfDay();
+        if (notBefore != null) {
+            cursor = Math.max(cursor, notBefore.toSecondOfDay());
+        }
+        int dayEnd = workdayEnd.toSecondOfDay();
+        long min = minDuration.toSeconds();
+
+        for (BookedSlot booking : bookings) {
+            if (cursor >= dayEnd) {
+                return windows;
+            }
+            int start = Math.min(booking.startTime().toSecondOfDay(), dayEnd);
+            if (start - cursor >= min) {
+                windows.add(new TimeSlot(date, LocalTime.ofSecondOfDay(cursor), LocalTime.ofSecondOfDay(start)));
+            }
+            cursor = Math.max(cursor, booking.endTime().toSecondOfDay());
+        }
+
+        if (dayEnd - cursor >= min) {
+            windows.add(new TimeSlot(date, LocalTime.ofSecondOfDay(cursor), workdayEnd));
+        }
+        return windows;
+    }
+
+    /**
+     * Earliest free window of the given length for an employee within working hours,
+     * starting at fromDate/notBefore and looking at most maxDays ahead
+     */
+    public Optional<TimeSlot> findNextFreeSlot(Long employeeId, LocalDate fromDate, LocalTime notBefore,
+            Duration duration, int maxDays) {
+        lock.readLock().lock();
+        try {
+            for (int i = 0; i < maxDays; i++) {
+                LocalDate date = fromDate.plusDays(i);
+                LocalTime earliest = (i == 0 && notBefore != null && notBefore.isAfter(workdayStart))
+                        ? notBefore
+                        : workdayStart;
+
+                DaySchedule schedule = schedule(employeeId, date);
+                Iterable<BookedSlot> bookings = schedule != null ? schedule.slots : List.of();
+
+                Optional<TimeSlot> slot = firstGap(date, bookings, earliest, duration);
+                if (slot.isPresent()) {
+                    return slot;
+                }
+            }
+            return Optional.empty();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Drop days that can no longer be booked
+     */
+    public void purgeBefore(LocalDate date) {
+        lock.writeLock().lock();
+        try {
+            NavigableMap<LocalDate, Map<Long, DaySchedule>> past = days.headMap(date, false);
+            past.values().forEach(schedules -> schedules.values()
+                    .forEach(schedule -> schedule.slots.forEach(slot -> byAppointment.remove(slot.appointmentId()))));
+            past.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Scheduled(cron = "${app.scheduling.purge-cron:0 5 0 * * *}")
+    public void purgePastDays() {
+        purgeBefore(LocalDate.now());
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return byAppointment.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Optional<TimeSlot> firstGap(LocalDate date, Iterable<BookedSlot> bookings, LocalTime earliest,
+            Duration duration) {
+        int cursor = earliest.toSecondOfDay();
+        int dayEnd = workdayEnd.toSecondOfDay();
+        long length = duration.toSeconds();
+
+        for (BookedSlot booking : bookings) {
+            int start = booking.startTime().toSecondOfDay();
+            int end = booking.endTime().toSecondOfDay();
+            if (end <= cursor) {
+                continue;
+            }
+            if (start - cursor >= length) {
+                break;
+            }
+            cursor = Math.max(cursor, end);
+        }
+
+        if (cursor + length <= dayEnd) {
+            return Optional.of(new TimeSlot(date, LocalTime.ofSecondOfDay(cursor),
+                    LocalTime.ofSecondOfDay(cursor + length)));
+        }
+        return Optional.empty();
+    }
+
+    // Re-read possibly stale bookings from the database and fix the index
+    private void refresh(List<BookedSlot> suspects) {
+        List<Long> ids = suspects.stream().map(BookedSlot::appointmentId).toList();
+        List<BookedSlot> current = appointmentRepository.findBookedSlotsByIds(ids, AppointmentStatus.CANCELED);
+
+        lock.writeLock().lock();
+        try {
+            ids.forEach(this::remove);
+            current.forEach(this::insert);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private DaySchedule schedule(Long employeeId, LocalDate date) {
+        Map<Long, DaySchedule> schedules = days.get(date);
+        return schedules != null ? schedules.get(employeeId) : null;
+    }
+
+    // Caller must hold the write lock
+    private void insert(BookedSlot slot) {
+        if (slot.employeeId() == null || slot.startTime() == null || slot.endTime() == null
+                || !slot.endTime().isAfter(slot.startTime())) {
+            return;
+        }
+        days.computeIfAbsent(slot.date(), d -> new HashMap<>())
+                .computeIfAbsent(slot.employeeId(), id -> new DaySchedule())
+                .add(slot);
+        byAppointment.put(slot.appointmentId(), slot);
+    }
+
+    // Caller must hold the write lock
+    private BookedSlot remove(Long appointmentId) {
+        BookedSlot existing = byAppointment.remove(appointmentId);
+        if (existing == null) {
+            return null;
+        }
+
+        Map<Long, DaySchedule> schedules = days.get(existing.date());
+        DaySchedule schedule = schedules != null ? schedules.get(existing.employeeId()) : null;
+        if (schedule != null) {
+            schedule.remove(existing);
+            if (schedule.slots.isEmpty()) {
+                schedules.remove(existing.employeeId());
+                if (schedules.isEmpty()) {
+                    days.remove(existing.date());
+                }
+            }
+        }
+        return existing;
+    }
+
+    /**
+     * One employee's bookings for one day. maxDurationSeconds bounds how far back
+     * an overlap scan has to look, which keeps it correct even if legacy data
+     * already contains overlapping bookings.
+     */
+    private static final class DaySchedule {
+
+        private final TreeSet<BookedSlot> slots = new TreeSet<>(BY_START);
+        private long maxDurationSeconds;
+
+        void add(BookedSlot slot) {
+            slots.add(slot);
+            maxDurationSeconds = Math.max(maxDurationSeconds, slot.durationSeconds());
+        }
+
+        void remove(BookedSlot slot) {
+            slots.remove(slot);
+            if (slot.durationSeconds() >= maxDurationSeconds) {
+                maxDurationSeconds = slots.stream().mapToLong(BookedSlot::durationSeconds).max().orElse(0);
+            }
+        }
+
+        List<BookedSlot> overlapping(LocalTime start, LocalTime end, Long excludeAppointmentId) {
+            // Every candidate starts before `end`; walk back from the latest one
+            BookedSlot probe = new BookedSlot(Long.MIN_VALUE, null, null, end, LocalTime.MIN);
+            Iterator<BookedSlot> candidates = slots.headSet(probe, false).descendingIterator();
+
+            List<BookedSlot> overlaps = new ArrayList<>();
+            long scanFloor = start.toSecondOfDay() - maxDurationSeconds;
+            while (candidates.hasNext()) {
+                BookedSlot slot = candidates.next();
+                if (slot.startTime().toSecondOfDay() < scanFloor) {
+                    break;
+                }
+                if (slot.overlaps(start, end) && !slot.appointmentId().equals(excludeAppointmentId)) {
+                    overlaps.add(slot);
+                }
+            }
+            Collections.reverse(overlaps);
+            return overlaps;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.ead.gearup.service.scheduling;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * A mechanic's booked time range for one appointment, as held in the slot index.
+ * Intervals are half-open: [startTime, endTime).
+ */
+public record BookedSlot(Long appointmentId, Long employeeId, LocalDate date, LocalTime startTime,
+        LocalTime endTime) {
+
+    public boolean overlaps(LocalTime start, LocalTime end) {
+        return startTime.isBefore(end) && endTime.isAfter(start);
+    }
+
+    public long durationSeconds() {
+        return endTime.toSecondOfDay() - startTime.toSecondOfDay();
+    }
+}
@@ -0,0 +1,76 @@
+package com.ead.gearup.service.scheduling;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.ead.gearup.model.SchedulerLease;
+import com.ead.gearup.repository.SchedulerLeaseRepository;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Leader election for scheduled jobs through a row per job in scheduler_lease.
+ * Whoever holds an unexpired lease is the leader; acquiring is a single
+ * conditional UPDATE, so exactly one node wins however many try at once.
+ * Leases use this node's clock, so they should be far longer than any clock skew.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SchedulerLeaseService {
+
+    private final SchedulerLeaseRepository schedulerLeaseRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    @Getter
+    private final String nodeId = nodeName() + "-" + UUID.randomUUID().toString().substring(0, 8);
+
+    /**
+     * Takes or renews the lease for ttl. Returns false while another node holds it.
+     */
+    public boolean tryAcquire(String name, Duration ttl) {
+        LocalDateTime now = LocalDateTime.now();
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        try {
+            return Boolean.TRUE.equals(transaction.execute(status -> {
+                if (schedulerLeaseRepository.acquire(name, nodeId, now, now.plus(ttl)) == 1) {
+                    return true;
+                }
+                if (schedulerLeaseRepository.existsById(name)) {
+                    return false;
+                }
+                // First run of this job anywhere
+                schedulerLeaseRepository.saveAndFlush(new SchedulerLease(name, nodeId, now.plus(ttl)));
+                return true;
+            }));
+        } catch (DataIntegrityViolationException e) {
+            // Another node created the row first and is the leader
+            return false;
+        }
+    }
+
+    // Lets another node take over right away instead of waiting for the lease to run out
+    public void release(String name) {
+        new TransactionTemplate(transactionManager)
+                .executeWithoutResult(status -> schedulerLeaseRepository.release(name, nodeId, LocalDateTime.now()));
+    }
+
+    private static String nodeName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            log.debug("Host name unavailable, using a random node id");
+            return "node";
+        }
+    }
+}
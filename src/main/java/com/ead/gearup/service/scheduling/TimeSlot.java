@@ -0,0 +1,10 @@
+package com.ead.gearup.service.scheduling;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * A free time window on a given day
+ */
+public record TimeSlot(LocalDate date, LocalTime startTime, LocalTime endTime) {
+}
@@ -37,6 +37,17 @@ public class AppointmentDTOConverter {
     }
 
     public AppointmentResponseDTO convertToResponseDto(Appointment appointment) {
+        return convertToResponseDto(appointment, appointment.getTasks() != null
+                ? appointment.getTasks().stream().map(Task::getTaskId).toList()
+                : List.of());
+    }
+
+    /*
+     * Task ids are passed in so listings can load them for a whole page at once.
+     * Only association ids are read, which Hibernate serves from the proxies
+     * without loading the vehicle, customer or employee.
+     */
+    public AppointmentResponseDTO convertToResponseDto(Appointment appointment, List<Long> taskIds) {
         AppointmentResponseDTO dto = new AppointmentResponseDTO();
 
         dto.setId(appointment.getAppointmentId());
@@ -48,9 +59,7 @@ public class AppointmentDTOConverter {
         dto.setEmployeeId(appointment.getEmployee() != null ? appointment.getEmployee().getEmployeeId() : null);
         dto.setStartTime(appointment.getStartTime() != null ? appointment.getStartTime() : null);
         dto.setEndTime(appointment.getEndTime() != null ? appointment.getEndTime() : null);
-        dto.setTaskIds(appointment.getTasks() != null
-                ? appointment.getTasks().stream().map(Task::getTaskId).toList()
-                : List.of());
+        dto.setTaskIds(taskIds);
         return dto;
     }
 
@@ -0,0 +1,34 @@
+package com.ead.gearup.util;
+
+/**
+ * The service method on whose behalf the current thread borrows JDBC
+ * connections. Only the outermost service call is recorded, so a connection
+ * taken by a nested call is charged to the method that started the work.
+ */
+public final class ConnectionOwner {
+
+    public static final String NONE = "none";
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private ConnectionOwner() {
+    }
+
+    // Returns false (and changes nothing) if an outer call already owns the thread
+    public static boolean begin(String owner) {
+        if (CURRENT.get() != null) {
+            return false;
+        }
+        CURRENT.set(owner);
+        return true;
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    public static String current() {
+        String owner = CURRENT.get();
+        return owner != null ? owner : NONE;
+    }
+}
@@ -0,0 +1,76 @@
+package com.ead.gearup.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+import com.ead.gearup.dto.response.CursorPageDTO;
+
+/**
+ * Opaque cursor for keyset pagination: the sort key values of the last row of
+ * a page, URL-safe Base64 encoded.
+ */
+public final class CursorToken {
+
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private static final String SEPARATOR = "|";
+
+    private CursorToken() {
+    }
+
+    public static String encode(Object... values) {
+        StringBuilder raw = new StringBuilder();
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                raw.append(SEPARATOR);
+            }
+            raw.append(values[i]);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static String[] decode(String token, int expectedParts) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != expectedParts) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return parts;
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+
+    // Cursor for listings ordered by id alone; generated ids start at 1, so 0 means the first page
+    public static long decodeId(String token) {
+        if (token == null || token.isBlank()) {
+            return 0L;
+        }
+        try {
+            return Long.valueOf(decode(token, 1)[0]);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+
+    public static void checkPageSize(int size) {
+        if (size <= 0 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+    }
+
+    /*
+     * Builds a page from a query that fetched size + 1 rows: the extra row only
+     * signals that another page exists
+     */
+    public static <T> CursorPageDTO<T> page(List<T> rows, int size, Function<T, String> cursorOf) {
+        if (rows.size() <= size) {
+            return new CursorPageDTO<>(rows, null, false);
+        }
+        List<T> items = rows.subList(0, size);
+        return new CursorPageDTO<>(items, cursorOf.apply(items.get(size - 1)), true);
+    }
+}
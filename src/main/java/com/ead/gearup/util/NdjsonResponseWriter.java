@@ -0,0 +1,53 @@
+package com.ead.gearup.util;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Streams rows as newline-delimited JSON. The producer pushes rows into the sink
+ * as it reads them, and each one is written straight to the response buffer, so
+ * memory stays flat however many rows there are.
+ */
+@Component
+@RequiredArgsConstructor
+public class NdjsonResponseWriter {
+
+    private final ObjectMapper objectMapper;
+
+    public <T> ResponseEntity<StreamingResponseBody> stream(String filename, Consumer<Consumer<T>> producer) {
+        ObjectWriter writer = objectMapper.writer();
+
+        StreamingResponseBody body = out -> {
+            try {
+                producer.accept(row -> {
+                    try {
+                        out.write(writer.writeValueAsBytes(row));
+                        out.write('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            out.flush();
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+                .body(body);
+    }
+}
@@ -0,0 +1,42 @@
+package com.ead.gearup.util;
+
+/**
+ * SQL statements executed on the current thread within one measured scope
+ * (normally a request). Statements outside any scope are not counted.
+ */
+public class SqlStatementStats {
+
+    public static final String REQUEST_ATTRIBUTE = SqlStatementStats.class.getName();
+
+    private static final ThreadLocal<SqlStatementStats> CURRENT = new ThreadLocal<>();
+
+    private int count;
+    private long elapsedMillis;
+
+    public static SqlStatementStats begin() {
+        SqlStatementStats stats = new SqlStatementStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    public static SqlStatementStats current() {
+        return CURRENT.get();
+    }
+
+    public void record(long elapsedMillis) {
+        this.count++;
+        this.elapsedMillis += elapsedMillis;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+}
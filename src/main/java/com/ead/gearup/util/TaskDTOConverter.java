@@ -4,6 +4,7 @@ import org.springframework.stereotype.Component;
 
 import com.ead.gearup.dto.task.TaskCreateDTO;
 import com.ead.gearup.dto.task.TaskResponseDTO;
+import com.ead.gearup.model.Appointment;
 import com.ead.gearup.model.Task;
 import com.ead.gearup.repository.AppointmentRepository;
 
@@ -17,16 +18,21 @@ public class TaskDTOConverter {
 
     // Convert TaskCreateDTO to Task entity
     public Task convertToEntity(TaskCreateDTO dto) {
+        return convertToEntity(dto, appointmentRepository.findById(dto.getAppointmentId())
+                .orElseThrow(() -> {
+                    throw new IllegalArgumentException("Invalid appointment ID: " + dto.getAppointmentId());
+                }));
+    }
+
+    // Convert TaskCreateDTO to Task entity for an appointment the caller already loaded
+    public Task convertToEntity(TaskCreateDTO dto, Appointment appointment) {
         Task task = new Task();
 
         task.setName(dto.getName());
         task.setDescription(dto.getDescription());
         task.setEstimatedHours(dto.getEstimatedHours());
         task.setCost(dto.getCost());
-        task.setAppointment(appointmentRepository.findById(dto.getAppointmentId())
-                .orElseThrow(() -> {
-                    throw new IllegalArgumentException("Invalid appointment ID: " + dto.getAppointmentId());
-                }));
+        task.setAppointment(appointment);
 
         return task;
     }
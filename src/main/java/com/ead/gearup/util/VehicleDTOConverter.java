@@ -7,16 +7,10 @@ import com.ead.gearup.dto.vehicle.VehicleResponseDTO;
 import com.ead.gearup.dto.vehicle.VehicleUpdateDTO;
 import com.ead.gearup.model.Customer;
 import com.ead.gearup.model.Vehicle;
-import com.ead.gearup.repository.VehicleRepository;
-
-import lombok.RequiredArgsConstructor;
 
 @Component
-@RequiredArgsConstructor
 public class VehicleDTOConverter {
 
-    private final VehicleRepository vehicleRepository;
-
     // Convert VehicleDTO to Vehicle entity
     public Vehicle convertToEntity(VehicleCreateDTO dto, Customer customer) {
         Vehicle vehicle = new Vehicle();
@@ -44,12 +38,10 @@ public class VehicleDTOConverter {
         return dto;
     }
 
+    // Duplicate VINs / plates are rejected by the unique constraints when the change is flushed
     public void updateEntityFromDto(Vehicle vehicle, VehicleUpdateDTO dto) {
 
         if (dto.getLicensePlate() != null) {
-            if (vehicleRepository.existsByLicensePlateAndVehicleIdNot(dto.getLicensePlate(), vehicle.getVehicleId())) {
-                throw new IllegalArgumentException("Vehicle with this license plate already exists");
-            }
             vehicle.setLicensePlate(dto.getLicensePlate());
         }
 
@@ -62,9 +54,6 @@ public class VehicleDTOConverter {
         }
 
         if (dto.getVin() != null) {
-            if (vehicleRepository.existsByVinAndVehicleIdNot(dto.getVin(), vehicle.getVehicleId())) {
-                throw new IllegalArgumentException("Vehicle with this VIN already exists");
-            }
             vehicle.setVin(dto.getVin());
         }
 
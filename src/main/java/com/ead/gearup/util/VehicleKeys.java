@@ -0,0 +1,70 @@
+package com.ead.gearup.util;
+
+import java.util.Locale;
+import java.util.function.IntPredicate;
+
+/**
+ * Canonical forms of VINs and license plates, both upper-case with separators
+ * removed so "ab-12 34" and "AB1234" match:
+ * <ul>
+ * <li>{@link #canonical} keeps letters and digits of any script, so "ÅB-12" and
+ * "B12" stay different plates. It backs the unique constraints and exact lookups.</li>
+ * <li>{@link #normalize} keeps ASCII letters and digits only. It backs prefix
+ * search, where keys must sort within [0-9A-Z] (see prefixRangeEnd).</li>
+ * </ul>
+ */
+public final class VehicleKeys {
+
+    // Longer than any VIN (17) or plate; upper bound of a prefix range, see prefixRangeEnd
+    private static final int MAX_KEY_LENGTH = 32;
+
+    private VehicleKeys() {
+    }
+
+    public static String canonical(String value) {
+        return filter(value, Character::isLetterOrDigit);
+    }
+
+    public static String normalize(String value) {
+        return filter(value, VehicleKeys::isSearchKeyChar);
+    }
+
+    /**
+     * Reject a VIN or plate that would have a blank key, or that prefix search
+     * could never find (no ASCII letter or digit at all)
+     */
+    public static void requireKeys(String value, String label) {
+        String key = canonical(value);
+        if (key == null || key.isEmpty()) {
+            throw new IllegalArgumentException(label + " must contain letters or digits");
+        }
+        if (normalize(value).isEmpty()) {
+            throw new IllegalArgumentException(label + " must contain at least one letter A-Z or digit 0-9");
+        }
+    }
+
+    /*
+     * Keys only hold [0-9A-Z], so every key starting with prefix sorts between
+     * prefix and prefix + "ZZZ...". Unlike LIKE 'prefix%', that range can use a
+     * plain b-tree index whatever the database collation is.
+     */
+    public static String prefixRangeEnd(String prefix) {
+        return prefix + "Z".repeat(MAX_KEY_LENGTH);
+    }
+
+    private static String filter(String value, IntPredicate keep) {
+        if (value == null) {
+            return null;
+        }
+        StringBuilder key = new StringBuilder(value.length());
+        value.toUpperCase(Locale.ROOT).codePoints()
+                .filter(keep)
+                .forEach(key::appendCodePoint);
+        return key.toString();
+    }
+
+    // ASCII only: non-ASCII letters would sort above "Z" and break prefixRangeEnd
+    private static boolean isSearchKeyChar(int c) {
+        return (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+    }
+}
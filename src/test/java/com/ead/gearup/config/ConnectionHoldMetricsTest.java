@@ -0,0 +1,124 @@
+package com.ead.gearup.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.Status;
+
+import com.ead.gearup.util.ConnectionOwner;
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.PoolStats;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ConnectionHoldMetricsTest {
+
+    private static final String POOL = "gearup-primary";
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        ConnectionOwner.end();
+    }
+
+    private ConnectionHoldMetrics metrics(long leakThresholdMillis) {
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory(Map.of("meterRegistry", meterRegistry));
+        return new ConnectionHoldMetrics(beanFactory.getBeanProvider(MeterRegistry.class), leakThresholdMillis);
+    }
+
+    private IMetricsTracker tracker(ConnectionHoldMetrics metrics) {
+        return metrics.create(POOL, new PoolStats(1000) {
+            @Override
+            protected void update() {
+            }
+        });
+    }
+
+    @Test
+    void testAcquireAndHoldAreTaggedWithTheOutermostServiceMethod() {
+        IMetricsTracker tracker = tracker(metrics(60000));
+
+        assertTrue(ConnectionOwner.begin("EmailVerificationService.sendVerificationEmail"));
+        assertFalse(ConnectionOwner.begin("EmailOutboxService.enqueue"));
+        tracker.recordConnectionAcquiredNanos(2_000_000);
+        tracker.recordConnectionUsageMillis(250);
+        ConnectionOwner.end();
+
+        Timer hold = meterRegistry.find("gearup.db.connection.hold")
+                .tag("method", "EmailVerificationService.sendVerificationEmail").timer();
+        assertNotNull(hold);
+        assertEquals(1, hold.count());
+        assertEquals(250.0, hold.totalTime(TimeUnit.MILLISECONDS));
+        assertNotNull(meterRegistry.find("gearup.db.connection.acquire")
+                .tag("method", "EmailVerificationService.sendVerificationEmail").timer());
+        // Boot's standard pool meters are still published
+        assertNotNull(meterRegistry.find("hikaricp.connections.usage").timer());
+    }
+
+    @Test
+    void testConnectionHeldPastThresholdIsReportedOnceUntilReturned() throws InterruptedException {
+        ConnectionHoldMetrics metrics = metrics(1);
+        IMetricsTracker tracker = tracker(metrics);
+
+        ConnectionOwner.begin("CustomerService.exportAll");
+        tracker.recordConnectionAcquiredNanos(1_000);
+        Thread.sleep(10);
+
+        metrics.detectLeaks();
+        metrics.detectLeaks();
+
+        assertEquals(1, metrics.suspectedLeaks().size());
+        assertEquals("CustomerService.exportAll", metrics.suspectedLeaks().get(0).owner());
+        assertEquals(1.0, meterRegistry.get("gearup.db.connection.leaks")
+                .tag("method", "CustomerService.exportAll").counter().count());
+        assertEquals(1.0, meterRegistry.get("gearup.db.connections.suspected_leaks").gauge().value());
+
+        tracker.recordConnectionUsageMillis(10);
+        assertTrue(metrics.suspectedLeaks().isEmpty());
+    }
+
+    @Test
+    void testHealthReportsSuspectedLeaks() throws InterruptedException {
+        ConnectionHoldMetrics metrics = metrics(1);
+        IMetricsTracker tracker = tracker(metrics);
+        HealthIndicator health = new ConnectionPoolMetricsConfig().connectionLeaksHealthIndicator(metrics);
+        assertEquals(Status.UP, health.health().getStatus());
+
+        ConnectionOwner.begin("CustomerService.exportAll");
+        tracker.recordConnectionAcquiredNanos(1_000);
+        Thread.sleep(10);
+
+        assertEquals(ConnectionPoolMetricsConfig.LEAK_SUSPECTED, health.health().getStatus());
+        tracker.recordConnectionUsageMillis(10);
+        assertEquals(Status.UP, health.health().getStatus());
+    }
+
+    @Test
+    void testTimedOutAcquisitionIsNotTrackedAsBorrowed() throws InterruptedException {
+        ConnectionHoldMetrics metrics = metrics(1);
+        IMetricsTracker tracker = tracker(metrics);
+
+        tracker.recordConnectionAcquiredNanos(5_000_000_000L);
+        tracker.recordConnectionTimeout();
+        Thread.sleep(10);
+
+        assertTrue(metrics.suspectedLeaks().isEmpty());
+        assertEquals(1.0, meterRegistry.get("gearup.db.connection.timeouts")
+                .tag("method", ConnectionOwner.NONE).counter().count());
+    }
+}
@@ -0,0 +1,122 @@
+package com.ead.gearup.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.ead.gearup.dto.appointment.AppointmentUpdateDTO;
+import com.ead.gearup.enums.AppointmentStatus;
+import com.ead.gearup.enums.UserRole;
+import com.ead.gearup.exception.CustomerNotFoundException;
+import com.ead.gearup.model.Appointment;
+import com.ead.gearup.model.Customer;
+import com.ead.gearup.model.User;
+import com.ead.gearup.model.Vehicle;
+import com.ead.gearup.repository.AppointmentRepository;
+import com.ead.gearup.repository.CustomerRepository;
+import com.ead.gearup.repository.VehicleRepository;
+import com.ead.gearup.service.AppointmentService;
+import com.ead.gearup.service.CustomerService;
+
+/**
+ * Routing through the real JpaTransactionManager and Hibernate. The replica is a
+ * second H2 database with the primary's schema but none of its rows, so a
+ * read that reaches it finds nothing.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:routing-primary-db;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE;NON_KEYWORDS=YEAR",
+        "app.datasource.replica.enabled=true",
+        "app.datasource.replica.hikari.jdbc-url=jdbc:h2:mem:routing-replica-db;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE;NON_KEYWORDS=YEAR",
+        "app.datasource.replica.hikari.username=sa",
+        "app.datasource.replica.hikari.password=",
+        "app.datasource.replica.lag-query=SELECT 0",
+        "app.mail.outbox.enabled=false"
+})
+@ActiveProfiles("test")
+class ReadReplicaRoutingIntegrationTest {
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primaryDataSource;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    @Autowired
+    private ReplicaLagMonitor replicaLagMonitor;
+
+    @Autowired
+    private CustomerService customerService;
+
+    @Autowired
+    private AppointmentService appointmentService;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private VehicleRepository vehicleRepository;
+
+    @Autowired
+    private AppointmentRepository appointmentRepository;
+
+    private Customer customer;
+    private Vehicle vehicle;
+
+    @BeforeEach
+    void setUp() {
+        // Give the replica the schema Hibernate created on the primary, without any rows
+        JdbcTemplate replica = new JdbcTemplate(replicaDataSource);
+        replica.execute("DROP ALL OBJECTS");
+        new JdbcTemplate(primaryDataSource).queryForList("SCRIPT NODATA", String.class).stream()
+                .filter(statement -> !statement.startsWith("--") && !statement.startsWith("CREATE USER"))
+                .forEach(replica::execute);
+        replicaLagMonitor.check();
+
+        String suffix = String.valueOf(System.nanoTime() % 1_000_000_000L);
+        User user = User.builder().email("routing-" + suffix + "@example.com").name("John").password("secret")
+                .role(UserRole.CUSTOMER).build();
+        customer = customerRepository.save(Customer.builder().user(user).phoneNumber("0771234567").build());
+        vehicle = vehicleRepository.save(Vehicle.builder().vin("VINRT" + suffix).licensePlate("RT-" + suffix)
+                .make("Toyota").model("Axio").year(2018).customer(customer).build());
+    }
+
+    @Test
+    void testReadOnlyServiceTransactionsReadFromTheReplica() {
+        assertTrue(replicaLagMonitor.isUsable());
+        // The row only exists on the primary
+        assertThrows(CustomerNotFoundException.class, () -> customerService.getById(customer.getCustomerId()));
+    }
+
+    @Test
+    void testRepositoryDefaultTransactionsReadFromThePrimary() {
+        assertTrue(customerRepository.findById(customer.getCustomerId()).isPresent());
+    }
+
+    @Test
+    void testReadThenWriteServiceMethodsUseThePrimary() {
+        LocalTime start = LocalTime.of(10, 0);
+        Appointment appointment = appointmentRepository.save(Appointment.builder().customer(customer)
+                .vehicle(vehicle).date(LocalDate.now().plusDays(3)).startTime(start).endTime(start.plusHours(1))
+                .status(AppointmentStatus.PENDING).build());
+
+        AppointmentUpdateDTO update = new AppointmentUpdateDTO();
+        update.setNotes("Brake noise");
+        assertEquals("Brake noise",
+                appointmentService.updateAppointment(appointment.getAppointmentId(), update).getNotes());
+        assertEquals("Brake noise",
+                appointmentRepository.findById(appointment.getAppointmentId()).get().getNotes());
+    }
+}
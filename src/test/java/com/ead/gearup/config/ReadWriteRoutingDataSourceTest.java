@@ -0,0 +1,117 @@
+package com.ead.gearup.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Two in-memory databases stand in for the primary and the replica; each
+ * answers with its own name so the test can see where a statement went.
+ */
+class ReadWriteRoutingDataSourceTest {
+
+    private static final String NODE_QUERY = "SELECT name FROM node";
+    private static final String SERVICE_TRANSACTION = ReadReplicaConfig.REPLICA_TRANSACTION_PREFIX
+            + "CustomerService.getById";
+    private static final String REPOSITORY_TRANSACTION =
+            "org.springframework.data.jpa.repository.support.SimpleJpaRepository.findById";
+
+    private JdbcTemplate primary;
+    private JdbcTemplate replica;
+    private SimpleMeterRegistry meterRegistry;
+    private ReplicaLagMonitor lagMonitor;
+    private JdbcTemplate routed;
+    private DataSourceTransactionManager transactionManager;
+
+    private static DataSource database(String name) {
+        return new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+    }
+
+    @BeforeEach
+    void setUp() {
+        DataSource primaryDataSource = database("routing-primary");
+        DataSource replicaDataSource = database("routing-replica");
+        primary = new JdbcTemplate(primaryDataSource);
+        replica = new JdbcTemplate(replicaDataSource);
+        for (JdbcTemplate node : new JdbcTemplate[] { primary, replica }) {
+            node.execute("DROP TABLE IF EXISTS node");
+            node.execute("CREATE TABLE node (name VARCHAR(20))");
+        }
+        primary.update("INSERT INTO node VALUES ('primary')");
+        replica.update("INSERT INTO node VALUES ('replica')");
+        replica.execute("DROP TABLE IF EXISTS replica_lag");
+        replica.execute("CREATE TABLE replica_lag (millis BIGINT)");
+        replica.update("INSERT INTO replica_lag VALUES (0)");
+
+        meterRegistry = new SimpleMeterRegistry();
+        lagMonitor = new ReplicaLagMonitor(replicaDataSource, "SELECT millis FROM replica_lag", 5000, meterRegistry);
+        lagMonitor.check();
+
+        DataSource dataSource = new LazyConnectionDataSourceProxy(new ReadWriteRoutingDataSource(primaryDataSource,
+                replicaDataSource, lagMonitor, meterRegistry.counter("gearup.db.replica.fallbacks"),
+                ReadReplicaConfig.REPLICA_TRANSACTION_PREFIX));
+        routed = new JdbcTemplate(dataSource);
+        transactionManager = new DataSourceTransactionManager(dataSource);
+    }
+
+    private String nodeIn(boolean readOnly) {
+        return nodeIn(SERVICE_TRANSACTION, readOnly);
+    }
+
+    private String nodeIn(String transactionName, boolean readOnly) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setName(transactionName);
+        transaction.setReadOnly(readOnly);
+        return transaction.execute(status -> routed.queryForObject(NODE_QUERY, String.class));
+    }
+
+    @Test
+    void testReadOnlyTransactionsGoToTheReplicaAndTheRestToThePrimary() {
+        assertTrue(lagMonitor.isUsable());
+        assertEquals("replica", nodeIn(true));
+        assertEquals("primary", nodeIn(false));
+        assertEquals("primary", routed.queryForObject(NODE_QUERY, String.class));
+    }
+
+    @Test
+    void testReadOnlyTransactionsNotStartedByAServiceGoToThePrimary() {
+        assertEquals("primary", nodeIn(REPOSITORY_TRANSACTION, true));
+        assertEquals("primary", nodeIn(null, true));
+        assertEquals(0.0, meterRegistry.get("gearup.db.replica.fallbacks").counter().count());
+    }
+
+    @Test
+    void testLaggingReplicaFallsBackToThePrimaryUntilItCatchesUp() {
+        replica.update("UPDATE replica_lag SET millis = 30000");
+        lagMonitor.check();
+
+        assertFalse(lagMonitor.isUsable());
+        assertEquals(30000, lagMonitor.getLagMillis());
+        assertEquals("primary", nodeIn(true));
+        assertEquals(1.0, meterRegistry.get("gearup.db.replica.fallbacks").counter().count());
+
+        replica.update("UPDATE replica_lag SET millis = 100");
+        lagMonitor.check();
+        assertEquals("replica", nodeIn(true));
+    }
+
+    @Test
+    void testUnreachableReplicaFallsBackToThePrimary() {
+        replica.execute("DROP TABLE replica_lag");
+        lagMonitor.check();
+
+        assertFalse(lagMonitor.isUsable());
+        assertEquals(-1, lagMonitor.getLagMillis());
+        assertEquals("primary", nodeIn(true));
+    }
+}
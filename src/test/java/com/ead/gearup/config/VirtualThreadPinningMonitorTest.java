@@ -0,0 +1,60 @@
+package com.ead.gearup.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class VirtualThreadPinningMonitorTest {
+
+    private final Object lock = new Object();
+
+    private SimpleMeterRegistry meterRegistry;
+    private VirtualThreadPinningMonitor monitor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        monitor = new VirtualThreadPinningMonitor(meterRegistry);
+        ReflectionTestUtils.setField(monitor, "pinnedThresholdMillis", 20L);
+        monitor.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        monitor.stop();
+    }
+
+    // Blocking inside synchronized pins the virtual thread to its carrier
+    private void sleepWhileHoldingMonitor() {
+        synchronized (lock) {
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Test
+    void testPinnedVirtualThreadIsRecordedAgainstItsBlockingSite() throws Exception {
+        Thread.ofVirtual().start(this::sleepWhileHoldingMonitor).join();
+
+        // JFR streams events in periodic chunks
+        Timer pinned = null;
+        for (int i = 0; i < 50 && pinned == null; i++) {
+            Thread.sleep(100);
+            pinned = meterRegistry.find("gearup.virtual_threads.pinned").timer();
+        }
+
+        assertNotNull(pinned, "pinned event was not recorded");
+        assertEquals(1, pinned.count());
+        assertEquals(VirtualThreadPinningMonitorTest.class.getName() + ".sleepWhileHoldingMonitor",
+                pinned.getId().getTag("site"));
+    }
+}
@@ -0,0 +1,39 @@
+package com.ead.gearup.controller;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ImportControllerAccessTest {
+
+    private static final MockMultipartFile CSV = new MockMultipartFile("file", "customers.csv", "text/csv",
+            "email,name\n".getBytes());
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @WithMockUser(roles = "PUBLIC")
+    void testPublicUserCannotImport() throws Exception {
+        mockMvc.perform(multipart("/api/v1/imports/customers").file(CSV))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @WithMockUser(roles = "CUSTOMER")
+    void testCustomerCannotImport() throws Exception {
+        mockMvc.perform(multipart("/api/v1/imports/vehicles").file(CSV))
+                .andExpect(status().isForbidden());
+    }
+}
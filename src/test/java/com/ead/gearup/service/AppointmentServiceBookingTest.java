@@ -0,0 +1,122 @@
+package com.ead.gearup.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.ead.gearup.dto.appointment.AppointmentUpdateDTO;
+import com.ead.gearup.enums.AppointmentStatus;
+import com.ead.gearup.enums.UserRole;
+import com.ead.gearup.exception.AppointmentConflictException;
+import com.ead.gearup.model.Appointment;
+import com.ead.gearup.model.Customer;
+import com.ead.gearup.model.Employee;
+import com.ead.gearup.model.User;
+import com.ead.gearup.model.Vehicle;
+import com.ead.gearup.repository.AppointmentRepository;
+import com.ead.gearup.repository.CustomerRepository;
+import com.ead.gearup.repository.EmployeeRepository;
+import com.ead.gearup.repository.VehicleRepository;
+import com.ead.gearup.service.scheduling.AppointmentSlotIndex;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class AppointmentServiceBookingTest {
+
+    private static final LocalTime NINE = LocalTime.of(9, 0);
+
+    @Autowired
+    private AppointmentService appointmentService;
+
+    @Autowired
+    private AppointmentSlotIndex slotIndex;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private VehicleRepository vehicleRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private AppointmentRepository appointmentRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Customer customer;
+    private Vehicle vehicle;
+    private Employee employee;
+    private LocalDate day;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = String.valueOf(System.nanoTime() % 1_000_000_000L);
+        User user = User.builder().email("booking-" + suffix + "@example.com").name("John").password("secret")
+                .role(UserRole.CUSTOMER).build();
+        customer = customerRepository.save(Customer.builder().user(user).phoneNumber("0771234567").build());
+        vehicle = vehicleRepository.save(Vehicle.builder().vin("VINBK" + suffix).licensePlate("BK-" + suffix)
+                .make("Toyota").model("Axio").year(2018).customer(customer).build());
+        User mechanic = User.builder().email("mechanic-" + suffix + "@example.com").name("Nimal").password("secret")
+                .role(UserRole.EMPLOYEE).build();
+        employee = employeeRepository.save(Employee.builder().user(mechanic).specialization("Engine").build());
+        day = LocalDate.now().plusDays(5);
+    }
+
+    private Appointment appointment(Employee assignee, LocalTime start) {
+        return appointmentRepository.save(Appointment.builder().customer(customer).vehicle(vehicle).date(day)
+                .employee(assignee).startTime(start).endTime(start != null ? start.plusHours(1) : null)
+                .status(AppointmentStatus.PENDING).build());
+    }
+
+    @Test
+    void testBookingMadeOnAnotherNodeIsCaughtByTheDatabaseCheck() {
+        // Written straight to the table, so this node's slot index has never seen it
+        appointment(employee, NINE);
+        Appointment other = appointment(null, null);
+        assertTrue(slotIndex.isAvailable(employee.getEmployeeId(), day, NINE.plusMinutes(30),
+                NINE.plusMinutes(90), other.getAppointmentId()));
+
+        AppointmentUpdateDTO update = new AppointmentUpdateDTO();
+        update.setEmployeeId(employee.getEmployeeId());
+        update.setStartTime(NINE.plusMinutes(30));
+        update.setEndTime(NINE.plusMinutes(90));
+
+        assertThrows(AppointmentConflictException.class,
+                () -> appointmentService.updateAppointment(other.getAppointmentId(), update));
+        // The reservation taken in the index is rolled back with the update
+        assertTrue(slotIndex.isAvailable(employee.getEmployeeId(), day, NINE.plusMinutes(30),
+                NINE.plusMinutes(90), other.getAppointmentId()));
+        assertNull(appointmentRepository.findById(other.getAppointmentId()).get().getEmployee());
+    }
+
+    @Test
+    void testReservationIsUndoneWhenTheTransactionRollsBackLater() {
+        Appointment appointment = appointment(null, null);
+        AppointmentUpdateDTO update = new AppointmentUpdateDTO();
+        update.setEmployeeId(employee.getEmployeeId());
+        update.setStartTime(NINE);
+        update.setEndTime(NINE.plusHours(1));
+
+        // The update itself succeeds; something after it in the same transaction fails
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            appointmentService.updateAppointment(appointment.getAppointmentId(), update);
+            assertFalse(slotIndex.isAvailable(employee.getEmployeeId(), day, NINE, NINE.plusHours(1), null));
+            status.setRollbackOnly();
+        });
+
+        assertTrue(slotIndex.isAvailable(employee.getEmployeeId(), day, NINE, NINE.plusHours(1), null));
+        assertNull(appointmentRepository.findById(appointment.getAppointmentId()).get().getEmployee());
+    }
+}
@@ -0,0 +1,145 @@
+package com.ead.gearup.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDate;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.ead.gearup.dto.appointment.AppointmentResponseDTO;
+import com.ead.gearup.dto.appointment.AppointmentUpdateDTO;
+import com.ead.gearup.dto.response.CursorPageDTO;
+import com.ead.gearup.enums.UserRole;
+import com.ead.gearup.model.Appointment;
+import com.ead.gearup.model.Customer;
+import com.ead.gearup.model.Task;
+import com.ead.gearup.model.User;
+import com.ead.gearup.model.UserPrinciple;
+import com.ead.gearup.model.Vehicle;
+import com.ead.gearup.repository.AppointmentRepository;
+import com.ead.gearup.repository.CustomerRepository;
+import com.ead.gearup.repository.TaskRepository;
+import com.ead.gearup.repository.VehicleRepository;
+import com.ead.gearup.support.SqlQueryCount;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class AppointmentServiceQueryCountTest {
+
+    private static final int APPOINTMENTS = 12;
+    private static final int TASKS_PER_APPOINTMENT = 2;
+
+    @Autowired
+    private AppointmentService appointmentService;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private VehicleRepository vehicleRepository;
+
+    @Autowired
+    private AppointmentRepository appointmentRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private Customer customer;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = String.valueOf(System.nanoTime());
+        User user = User.builder().email("n1-" + suffix + "@example.com").name("John").password("secret")
+                .role(UserRole.CUSTOMER).build();
+        customer = customerRepository.save(Customer.builder().user(user).phoneNumber("0771234567").build());
+        Vehicle vehicle = vehicleRepository.save(Vehicle.builder().vin("VIN-" + suffix).licensePlate("PL-" + suffix)
+                .make("Toyota").model("Axio").year(2018).customer(customer).build());
+
+        for (int i = 0; i < APPOINTMENTS; i++) {
+            Appointment appointment = appointmentRepository.save(Appointment.builder()
+                    .date(LocalDate.of(2030, 1, 1).plusDays(i)).customer(customer).vehicle(vehicle).build());
+            for (int t = 0; t < TASKS_PER_APPOINTMENT; t++) {
+                taskRepository.save(Task.builder().name("Task " + t).description("Check").estimatedHours(1)
+                        .cost(10.0).appointment(appointment).build());
+            }
+        }
+    }
+
+    @Test
+    void testListingPageUsesConstantNumberOfQueries() {
+        // One query for the page, one for its task ids; none per appointment
+        CursorPageDTO<AppointmentResponseDTO> page = SqlQueryCount.assertAtMost(2,
+                () -> appointmentService.listAppointments(null, null, null, customer.getCustomerId(), null, null,
+                        null, 10));
+
+        assertEquals(10, page.getItems().size());
+        assertTrue(page.getItems().stream().allMatch(a -> a.getTaskIds().size() == TASKS_PER_APPOINTMENT
+                && a.getVehicleId() != null && a.getCustomerId() != null));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void testListingEndpointQueryBudget() throws Exception {
+        mockMvc.perform(get("/api/v1/appointments")
+                .param("customerId", customer.getCustomerId().toString())
+                .param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(SqlQueryCount.atMost(2));
+    }
+
+    @Test
+    void testCustomerOnlyListsOwnAppointments() {
+        String suffix = String.valueOf(System.nanoTime());
+        User otherUser = User.builder().email("n1-other-" + suffix + "@example.com").name("Jane").password("secret")
+                .role(UserRole.CUSTOMER).build();
+        Customer other = customerRepository.save(Customer.builder().user(otherUser).phoneNumber("0777654321")
+                .build());
+        Vehicle vehicle = vehicleRepository.save(Vehicle.builder().vin("VINO-" + suffix).licensePlate("PO-" + suffix)
+                .make("Honda").model("Fit").year(2016).customer(other).build());
+        appointmentRepository.save(Appointment.builder().date(LocalDate.of(2030, 2, 1)).customer(other)
+                .vehicle(vehicle).build());
+
+        UserPrinciple principal = new UserPrinciple(otherUser, other.getCustomerId());
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+        try {
+            // Asking for someone else's appointments returns the caller's own
+            CursorPageDTO<AppointmentResponseDTO> page = appointmentService.listAppointments(null, null, null,
+                    customer.getCustomerId(), null, null, null, 10);
+
+            assertEquals(1, page.getItems().size());
+            assertEquals(other.getCustomerId(), page.getItems().get(0).getCustomerId());
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    @Test
+    void testUpdateRendersTasksOutsideASession() {
+        Long appointmentId = appointmentService.listAppointments(null, null, null, customer.getCustomerId(), null,
+                null, null, 1).getItems().get(0).getId();
+        AppointmentUpdateDTO update = new AppointmentUpdateDTO();
+        update.setNotes("Brake noise");
+
+        AppointmentResponseDTO updated = appointmentService.updateAppointment(appointmentId, update);
+
+        assertEquals("Brake noise", updated.getNotes());
+        assertEquals(TASKS_PER_APPOINTMENT, updated.getTaskIds().size());
+    }
+}
@@ -32,8 +32,10 @@ import com.ead.gearup.exception.ResendEmailCooldownException;
 import com.ead.gearup.model.User;
 import com.ead.gearup.model.UserPrinciple;
 import com.ead.gearup.repository.UserRepository;
+import com.ead.gearup.service.auth.CurrentUserService;
 import com.ead.gearup.service.auth.CustomUserDetailsService;
 import com.ead.gearup.service.auth.JwtService;
+import com.ead.gearup.service.auth.UserDetailsCache;
 
 import io.jsonwebtoken.ExpiredJwtException;
 
@@ -58,6 +60,12 @@ class AuthServiceUnitTest {
     @Mock
     private EmailVerificationService emailVerificationService;
 
+    @Mock
+    private CurrentUserService currentUserService;
+
+    @Mock
+    private UserDetailsCache userDetailsCache;
+
     @InjectMocks
     private AuthService authService;
 
@@ -114,6 +122,7 @@ class AuthServiceUnitTest {
 
         assertTrue(result);
         assertTrue(user.getIsVerified());
+        verify(userDetailsCache).evict("test@example.com");
     }
 
     @Test
@@ -179,18 +188,22 @@ class AuthServiceUnitTest {
 
         UserPrinciple principle = mock(UserPrinciple.class);
         User user = new User();
+        user.setUserId(1L);
         when(principle.getUser()).thenReturn(user);
         when(auth.getPrincipal()).thenReturn(principle);
 
         when(authManager.authenticate(any(UsernamePasswordAuthenticationToken.class))).thenReturn(auth);
-        when(jwtService.generateAccessToken(principle)).thenReturn("accessToken");
+        when(currentUserService.resolveEntityId(user)).thenReturn(10L);
+        when(jwtService.generateAccessToken(eq(principle), argThat(claims ->
+                Long.valueOf(1L).equals(claims.get("user_id")) && Long.valueOf(10L).equals(claims.get("entity_id")))))
+                .thenReturn("accessToken");
         when(jwtService.generateRefreshToken(principle)).thenReturn("refreshToken");
-        when(userRepository.save(user)).thenReturn(user);
 
         JwtTokensDTO tokens = authService.verifyUser(dto);
 
         assertEquals("accessToken", tokens.getAccessToken());
         assertEquals("refreshToken", tokens.getRefreshToken());
+        verify(userRepository).updateLastLogin(eq(1L), any(LocalDateTime.class));
     }
 
     @Test
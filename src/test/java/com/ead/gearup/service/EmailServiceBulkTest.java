@@ -0,0 +1,93 @@
+package com.ead.gearup.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import com.ead.gearup.service.email.BulkSendResult;
+import com.ead.gearup.service.email.EmailTemplates;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+
+class EmailServiceBulkTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    private final AtomicInteger connections = new AtomicInteger();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private EmailService emailService;
+
+    @BeforeEach
+    void setUp() {
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl() {
+            @Override
+            protected Transport connectTransport() throws MessagingException {
+                connections.incrementAndGet();
+                return super.connectTransport();
+            }
+        };
+        mailSender.setHost("localhost");
+        mailSender.setPort(ServerSetupTest.SMTP.getPort());
+
+        ClassLoaderTemplateResolver resolver = new ClassLoaderTemplateResolver();
+        resolver.setPrefix("templates/");
+        SpringTemplateEngine templateEngine = new SpringTemplateEngine();
+        templateEngine.setTemplateResolver(resolver);
+        EmailTemplates emailTemplates = new EmailTemplates(templateEngine);
+        ReflectionTestUtils.invokeMethod(emailTemplates, "init");
+
+        emailService = new EmailService(mailSender, emailTemplates, meterRegistry);
+        ReflectionTestUtils.setField(emailService, "batchSize", 50);
+        ReflectionTestUtils.setField(emailService, "maxPerSecond", 400.0);
+        emailService.init();
+    }
+
+    @Test
+    void testBulkSendReusesConnectionPerBatchAndIsRateLimited() throws Exception {
+        List<MimeMessage> messages = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            messages.add(emailService.composeVerificationEmail("user" + i + "@example.com", "User " + i,
+                    "https://gearup.example/verify-email?token=" + i));
+        }
+
+        long start = System.nanoTime();
+        BulkSendResult result = emailService.sendBulk(messages);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertEquals(120, result.sent());
+        assertTrue(result.failures().isEmpty());
+        assertTrue(greenMail.waitForIncomingEmail(5000, 120));
+        assertEquals(3, connections.get());
+        // 120 messages at 400/s cannot take less than ~300 ms
+        assertTrue(elapsedMillis >= 250, "sent too fast: " + elapsedMillis + " ms");
+        assertEquals(120.0, meterRegistry.counter("gearup.email.bulk.messages", "result", "sent").count());
+    }
+
+    @Test
+    void testBulkSendReportsFailuresWhenServerIsDown() throws Exception {
+        MimeMessage message = emailService.composeVerificationEmail("user@example.com", "User",
+                "https://gearup.example/verify-email?token=x");
+        greenMail.stop();
+
+        BulkSendResult result = emailService.sendBulk(List.of(message));
+
+        assertEquals(0, result.sent());
+        assertNotNull(result.failures().get(message));
+    }
+}
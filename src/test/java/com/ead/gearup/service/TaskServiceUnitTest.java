@@ -0,0 +1,76 @@
+package com.ead.gearup.service;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import com.ead.gearup.dto.task.TaskCreateDTO;
+import com.ead.gearup.dto.task.TaskResponseDTO;
+import com.ead.gearup.exception.BatchValidationException;
+import com.ead.gearup.model.Appointment;
+import com.ead.gearup.repository.AppointmentRepository;
+import com.ead.gearup.repository.TaskRepository;
+import com.ead.gearup.util.TaskDTOConverter;
+
+@ExtendWith(MockitoExtension.class)
+class TaskServiceUnitTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private AppointmentRepository appointmentRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private TaskService taskService;
+
+    @BeforeEach
+    void setUp() {
+        taskService = new TaskService(new TaskDTOConverter(appointmentRepository), taskRepository,
+                appointmentRepository, eventPublisher);
+    }
+
+    private static TaskCreateDTO task(String name, Long appointmentId) {
+        return new TaskCreateDTO(name, "Replace part", 1, 25.0, appointmentId);
+    }
+
+    @Test
+    void testBatchResolvesEachAppointmentOnce() {
+        Appointment appointment = Appointment.builder().appointmentId(1L).build();
+        when(appointmentRepository.findAllById(List.of(1L))).thenReturn(List.of(appointment));
+        when(taskRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        List<TaskResponseDTO> created = taskService.createTasks(List.of(
+                task("Oil change", 1L), task("Brake pads", 1L), task("Wipers", 1L)));
+
+        assertEquals(3, created.size());
+        assertTrue(created.stream().allMatch(t -> t.getAppointmentId().equals(1L)));
+        verify(appointmentRepository, times(1)).findAllById(List.of(1L));
+        verify(appointmentRepository, never()).findById(any());
+    }
+
+    @Test
+    void testBatchReportsEveryInvalidItemAndSavesNothing() {
+        Appointment appointment = Appointment.builder().appointmentId(1L).build();
+        when(appointmentRepository.findAllById(List.of(1L, 99L))).thenReturn(List.of(appointment));
+
+        BatchValidationException ex = assertThrows(BatchValidationException.class,
+                () -> taskService.createTasks(List.of(
+                        task("Oil change", 1L), task("", 1L), task("Wipers", 99L))));
+
+        assertEquals(List.of(1, 2), ex.getErrors().stream().map(e -> e.getIndex()).toList());
+        assertTrue(ex.getErrors().get(1).getMessage().contains("99"));
+        verify(taskRepository, never()).saveAll(anyList());
+    }
+}
@@ -0,0 +1,95 @@
+package com.ead.gearup.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.ead.gearup.dto.vehicle.VehicleResponseDTO;
+import com.ead.gearup.exception.VehicleNotFoundException;
+import com.ead.gearup.repository.VehicleRepository;
+import com.ead.gearup.util.VehicleKeys;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class VehicleLookupServiceUnitTest {
+
+    @Mock
+    private VehicleRepository vehicleRepository;
+
+    private VehicleLookupService lookupService;
+
+    private final VehicleResponseDTO vehicle = new VehicleResponseDTO(1L, "JT2AE09W4P0038539", "CAB-1234", 2018,
+            "Axio", "Toyota");
+
+    @BeforeEach
+    void setUp() {
+        lookupService = new VehicleLookupService(vehicleRepository, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(lookupService, "maxSize", 100L);
+        ReflectionTestUtils.setField(lookupService, "ttlMillis", 60000L);
+        lookupService.init();
+    }
+
+    @Test
+    void testPlateLookupIsNormalizedAndCached() {
+        when(vehicleRepository.findByPlateCanonical("CAB1234")).thenReturn(Optional.of(vehicle));
+
+        assertSame(vehicle, lookupService.findByPlate("cab 1234"));
+        assertSame(vehicle, lookupService.findByPlate("CAB-1234"));
+        verify(vehicleRepository, times(1)).findByPlateCanonical("CAB1234");
+
+        lookupService.evictAll();
+        lookupService.findByPlate("cab1234");
+        verify(vehicleRepository, times(2)).findByPlateCanonical("CAB1234");
+    }
+
+    @Test
+    void testUnknownPlateIsNotFound() {
+        when(vehicleRepository.findByPlateCanonical("XYZ9")).thenReturn(Optional.empty());
+
+        assertThrows(VehicleNotFoundException.class, () -> lookupService.findByPlate("xyz-9"));
+        assertThrows(IllegalArgumentException.class, () -> lookupService.findByPlate(" - "));
+    }
+
+    @Test
+    void testPrefixSearchMergesPlateAndVinMatches() {
+        VehicleResponseDTO other = new VehicleResponseDTO(2L, "CAB00000000000001", "WP-0001", 2020, "Civic", "Honda");
+        when(vehicleRepository.findByPlateKeyRange(eq("CAB"), any(), any(Limit.class))).thenReturn(List.of(vehicle));
+        when(vehicleRepository.findByVinKeyRange(eq("CAB"), any(), any(Limit.class)))
+                .thenReturn(List.of(other, vehicle));
+
+        assertEquals(List.of(vehicle, other), lookupService.search("ca-b", 10));
+        assertEquals(List.of(vehicle), lookupService.search("CAB", 1));
+        verify(vehicleRepository, times(1)).findByPlateKeyRange(eq("CAB"), any(), any(Limit.class));
+    }
+
+    @Test
+    void testExactKeysKeepNonAsciiLettersWhileSearchKeysDropThem() {
+        when(vehicleRepository.findByPlateCanonical("\u00c5B12")).thenReturn(Optional.of(vehicle));
+
+        assertSame(vehicle, lookupService.findByPlate("\u00e5b-12"));
+        // "ÅB-12" and "B12" are different plates, but both are found by searching "B12"
+        assertNotEquals(VehicleKeys.canonical("B12"), VehicleKeys.canonical("\u00c5B-12"));
+        assertEquals("B12", VehicleKeys.normalize("\u00c5B-12"));
+        assertEquals("CAB1234", VehicleKeys.normalize("cab-1234 \u0d9a\u0661"));
+    }
+
+    @Test
+    void testBlankOrUnsearchableKeysAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> VehicleKeys.requireKeys(" - ", "License plate"));
+        // Letters, but none that prefix search could match
+        assertThrows(IllegalArgumentException.class, () -> VehicleKeys.requireKeys("\u0d9a\u0dbb", "License plate"));
+        assertDoesNotThrow(() -> VehicleKeys.requireKeys("15 \u0dc1\u0dca\u200d\u0dbb\u0dd3 1234", "License plate"));
+    }
+}
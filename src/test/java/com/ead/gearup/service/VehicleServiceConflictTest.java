@@ -0,0 +1,141 @@
+package com.ead.gearup.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.ead.gearup.dto.vehicle.VehicleCreateDTO;
+import com.ead.gearup.dto.vehicle.VehicleResponseDTO;
+import com.ead.gearup.enums.UserRole;
+import com.ead.gearup.model.Customer;
+import com.ead.gearup.model.User;
+import com.ead.gearup.model.Vehicle;
+import com.ead.gearup.repository.CustomerRepository;
+import com.ead.gearup.repository.VehicleRepository;
+import com.ead.gearup.service.auth.CurrentUserService;
+import com.ead.gearup.support.SqlQueryCount;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class VehicleServiceConflictTest {
+
+    @Autowired
+    private VehicleService vehicleService;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private VehicleRepository vehicleRepository;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockitoBean
+    private CurrentUserService currentUserService;
+
+    private String suffix;
+    private Vehicle existing;
+
+    @BeforeEach
+    void setUp() {
+        suffix = String.valueOf(System.nanoTime() % 1_000_000_000L);
+        User user = User.builder().email("vc-" + suffix + "@example.com").name("John").password("secret")
+                .role(UserRole.CUSTOMER).build();
+        Customer customer = customerRepository.save(Customer.builder().user(user).phoneNumber("0771234567").build());
+        existing = vehicleRepository.save(Vehicle.builder().vin("VIN1" + suffix).licensePlate("PL1-" + suffix)
+                .make("Toyota").model("Axio").year(2018).customer(customer).build());
+        when(currentUserService.getCurrentEntityId()).thenReturn(customer.getCustomerId());
+    }
+
+    private VehicleCreateDTO newVehicle(String vin, String licensePlate) {
+        return new VehicleCreateDTO(vin, licensePlate, 2020, "Civic", "Honda");
+    }
+
+    @Test
+    void testCreateRunsNoUniquenessQueries() {
+        // Customer lookup and the INSERT, plus at most one pooled sequence fetch
+        VehicleResponseDTO created = SqlQueryCount.assertAtMost(3,
+                () -> vehicleService.createVehicle(newVehicle("VIN2" + suffix, "PL2-" + suffix)));
+
+        assertNotNull(created.getId());
+    }
+
+    @Test
+    @WithMockUser
+    void testDuplicateVinIsReportedAsConflict() throws Exception {
+        mockMvc.perform(post("/api/v1/vehicles")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(newVehicle(existing.getVin(), "PL3-" + suffix))))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.message").value("Vehicle with this VIN already exists"));
+    }
+
+    @Test
+    @WithMockUser
+    void testDuplicatePlateOnUpdateIsReportedAsConflict() throws Exception {
+        VehicleResponseDTO other = vehicleService.createVehicle(newVehicle("VIN4" + suffix, "PL4-" + suffix));
+
+        mockMvc.perform(patch("/api/v1/vehicles/" + other.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"licensePlate\":\"" + existing.getLicensePlate() + "\"}"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.message").value("Vehicle with this license plate already exists"));
+    }
+
+    @Test
+    @WithMockUser
+    void testPlateThatNormalizesToAnExistingOneIsReportedAsConflict() throws Exception {
+        // "PL1-123" and "pl1 123" share the lookup key PL1123
+        String samePlate = existing.getLicensePlate().toLowerCase().replace('-', ' ');
+
+        mockMvc.perform(post("/api/v1/vehicles")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(newVehicle("VIN5" + suffix, samePlate))))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.message").value("Vehicle with this license plate already exists"));
+    }
+
+    @Test
+    void testPlatesDifferingOnlyInANonAsciiLetterAreDistinct() {
+        vehicleService.createVehicle(newVehicle("VIN6" + suffix, "\u00c5B-" + suffix));
+
+        VehicleResponseDTO created = vehicleService.createVehicle(newVehicle("VIN7" + suffix, "B-" + suffix));
+
+        assertNotNull(created.getId());
+    }
+
+    @Test
+    @WithMockUser
+    void testPlateWithoutLettersOrDigitsIsRejected() throws Exception {
+        mockMvc.perform(post("/api/v1/vehicles")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(newVehicle("VIN8" + suffix, "--"))))
+                .andExpect(status().isBadRequest());
+
+        VehicleResponseDTO other = vehicleService.createVehicle(newVehicle("VIN9" + suffix, "PL9-" + suffix));
+        mockMvc.perform(patch("/api/v1/vehicles/" + other.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"licensePlate\":\"\u0d9a\u0dbb\"}"))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,98 @@
+package com.ead.gearup.service.auth;
+
+import static org.mockito.Mockito.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import com.ead.gearup.enums.UserRole;
+import com.ead.gearup.model.Customer;
+import com.ead.gearup.model.User;
+import com.ead.gearup.model.UserPrinciple;
+import com.ead.gearup.repository.CustomerRepository;
+import com.ead.gearup.repository.EmployeeRepository;
+import com.ead.gearup.repository.UserRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class CurrentUserServiceUnitTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private CustomerRepository customerRepository;
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CurrentUserService currentUserService;
+    private ServletRequestAttributes requestAttributes;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        currentUserService = new CurrentUserService(userRepository, customerRepository, employeeRepository,
+                meterRegistry);
+        currentUserService.init();
+
+        user = User.builder().userId(1L).email("test@example.com").name("John").role(UserRole.CUSTOMER).build();
+        UserPrinciple principle = new UserPrinciple(user);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principle, null, principle.getAuthorities()));
+
+        requestAttributes = new ServletRequestAttributes(new MockHttpServletRequest());
+        RequestContextHolder.setRequestAttributes(requestAttributes);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void testIdentityResolvedOncePerRequest() {
+        Customer customer = Customer.builder().customerId(7L).user(user).build();
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        when(customerRepository.findByUser(user)).thenReturn(Optional.of(customer));
+
+        assertEquals(7L, currentUserService.getCurrentEntityId());
+        assertEquals(7L, currentUserService.getCurrentEntityId());
+        assertEquals(UserRole.CUSTOMER, currentUserService.getCurrentUserRole());
+        assertEquals(UserRole.CUSTOMER, currentUserService.getCurrentUserType());
+        assertSame(user, currentUserService.getCurrentUser());
+
+        verify(userRepository, times(1)).findById(1L);
+        verify(customerRepository, times(1)).findByUser(user);
+
+        requestAttributes.requestCompleted();
+        assertEquals(2.0, meterRegistry.summary("gearup.current_user.queries").totalAmount());
+    }
+
+    @Test
+    void testEntityIdFromTokenClaimsSkipsDatabase() {
+        UserPrinciple principle = new UserPrinciple(user, 7L);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principle, null, principle.getAuthorities()));
+
+        assertEquals(7L, currentUserService.getCurrentEntityId());
+
+        verifyNoInteractions(userRepository, customerRepository, employeeRepository);
+    }
+}
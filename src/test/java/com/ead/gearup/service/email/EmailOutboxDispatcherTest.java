@@ -0,0 +1,110 @@
+package com.ead.gearup.service.email;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.ead.gearup.dto.user.UserCreateDTO;
+import com.ead.gearup.enums.EmailOutboxStatus;
+import com.ead.gearup.enums.EmailType;
+import com.ead.gearup.model.EmailOutbox;
+import com.ead.gearup.repository.EmailOutboxRepository;
+import com.ead.gearup.service.AuthService;
+import com.icegreen.greenmail.configuration.GreenMailConfiguration;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+
+import jakarta.mail.internet.MimeMessage;
+
+// Own database: dispatchers of other cached test contexts must not claim these emails
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:outboxdb;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE;NON_KEYWORDS=YEAR",
+        "spring.mail.port=3025",
+        "app.mail.outbox.poll-interval=100",
+        "app.mail.outbox.max-attempts=2",
+        "app.mail.outbox.initial-backoff=10"
+})
+@ActiveProfiles("test")
+class EmailOutboxDispatcherTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP)
+            .withConfiguration(GreenMailConfiguration.aConfig().withUser("test", "test"));
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private EmailOutboxService emailOutboxService;
+
+    @Autowired
+    private EmailOutboxRepository emailOutboxRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void testRegistrationEmailIsSentAfterCommit() throws Exception {
+        UserCreateDTO dto = new UserCreateDTO();
+        dto.setEmail("outbox-" + System.nanoTime() + "@example.com");
+        dto.setName("John");
+        dto.setPassword("Password123@");
+
+        authService.createUser(dto);
+
+        assertTrue(greenMail.waitForIncomingEmail(5000, 1));
+        MimeMessage message = greenMail.getReceivedMessages()[0];
+        assertEquals(dto.getEmail(), message.getAllRecipients()[0].toString());
+        assertEquals("Verify Your Email", message.getSubject());
+
+        EmailOutbox email = emailOutboxRepository.findAll().stream()
+                .filter(e -> e.getRecipient().equals(dto.getEmail()))
+                .findFirst().orElseThrow();
+        awaitStatus(email.getEmailId(), EmailOutboxStatus.SENT);
+    }
+
+    @Test
+    void testUndeliverableEmailIsDeadLettered() {
+        transactionTemplate.executeWithoutResult(status -> emailOutboxService.enqueue(EmailType.VERIFICATION,
+                "not an address", Map.of("name", "John")));
+
+        EmailOutbox email = emailOutboxRepository.findAll().stream()
+                .filter(e -> e.getRecipient().equals("not an address"))
+                .findFirst().orElseThrow();
+        awaitStatus(email.getEmailId(), EmailOutboxStatus.DEAD);
+
+        EmailOutbox dead = emailOutboxRepository.findById(email.getEmailId()).orElseThrow();
+        assertEquals(2, dead.getAttempts());
+        assertNotNull(dead.getLastError());
+    }
+
+    private void awaitStatus(Long emailId, EmailOutboxStatus expected) {
+        await(() -> emailOutboxRepository.findById(emailId).orElseThrow().getStatus() == expected,
+                "email " + emailId + " to become " + expected);
+    }
+
+    private static void await(BooleanSupplier condition, String description) {
+        Instant deadline = Instant.now().plus(Duration.ofSeconds(5));
+        while (!condition.getAsBoolean()) {
+            if (Instant.now().isAfter(deadline)) {
+                fail("Timed out waiting for " + description);
+            }
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                fail("Interrupted");
+            }
+        }
+    }
+}
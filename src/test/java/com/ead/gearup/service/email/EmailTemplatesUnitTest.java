@@ -0,0 +1,39 @@
+package com.ead.gearup.service.email;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+class EmailTemplatesUnitTest {
+
+    private EmailTemplates emailTemplates;
+
+    @BeforeEach
+    void setUp() {
+        ClassLoaderTemplateResolver resolver = new ClassLoaderTemplateResolver();
+        resolver.setPrefix("templates/");
+        SpringTemplateEngine templateEngine = new SpringTemplateEngine();
+        templateEngine.setTemplateResolver(resolver);
+
+        emailTemplates = new EmailTemplates(templateEngine);
+        emailTemplates.init();
+    }
+
+    @Test
+    void testShellMatchesThymeleafOutput() {
+        Map<String, String> variables = Map.of(
+                "name", "Anne <O'Neil> & \"Co\"",
+                "verificationUrl", "https://gearup.example/verify-email?token=a.b-c_d&x=1");
+
+        String html = emailTemplates.render(EmailTemplates.VERIFICATION, variables);
+
+        assertEquals(emailTemplates.renderWithThymeleaf(EmailTemplates.VERIFICATION, variables), html);
+        assertTrue(html.contains("Anne &lt;O&#39;Neil&gt; &amp; &quot;Co&quot;"));
+        assertTrue(html.contains("href=\"https://gearup.example/verify-email?token=a.b-c_d&amp;x=1\""));
+    }
+}
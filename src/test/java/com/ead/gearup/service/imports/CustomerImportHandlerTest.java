@@ -0,0 +1,40 @@
+package com.ead.gearup.service.imports;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.ead.gearup.enums.UserRole;
+import com.ead.gearup.model.User;
+import com.ead.gearup.repository.UserRepository;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class CustomerImportHandlerTest {
+
+    @Autowired
+    private CustomerImportHandler handler;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void testEmailRegisteredWithDifferentCaseIsSkipped() {
+        String suffix = String.valueOf(System.nanoTime());
+        // Stored lowercase, as AuthService.createUser does
+        userRepository.save(User.builder().email("jane.doe-" + suffix + "@example.com").name("Jane")
+                .password("secret").role(UserRole.CUSTOMER).build());
+
+        ChunkResult result = handler.importChunk(List.of(
+                new ImportRow(1, Map.of("email", "Jane.Doe-" + suffix + "@Example.com", "name", "Jane"))));
+
+        assertEquals(0, result.getImported());
+        assertEquals(1, result.getSkipped().size());
+    }
+}
@@ -0,0 +1,52 @@
+package com.ead.gearup.service.imports;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class ImportRecordReaderUnitTest {
+
+    private static List<ImportRow> readAll(String content, ImportRecordReader.Format format) throws Exception {
+        List<ImportRow> rows = new ArrayList<>();
+        try (ImportRecordReader reader = ImportRecordReader.open(new StringReader(content), format,
+                new ObjectMapper())) {
+            reader.forEachRemaining(rows::add);
+        }
+        return rows;
+    }
+
+    @Test
+    void testCsvQuotingAndBlankLines() throws Exception {
+        String csv = "Email,Name,phoneNumber\r\n"
+                + "a@x.com,\"Doe, Jane\",123\r\n"
+                + "\r\n"
+                + "b@x.com,\"Say \"\"hi\"\"\nthere\",\n";
+
+        List<ImportRow> rows = readAll(csv, ImportRecordReader.Format.CSV);
+
+        assertEquals(2, rows.size());
+        assertEquals("Doe, Jane", rows.get(0).get("name"));
+        assertEquals("a@x.com", rows.get(0).get("EMAIL"));
+        assertEquals("Say \"hi\"\nthere", rows.get(1).get("name"));
+        assertNull(rows.get(1).get("phoneNumber"));
+        assertEquals(2, rows.get(1).number());
+    }
+
+    @Test
+    void testNdjsonRecords() throws Exception {
+        String ndjson = "{\"vin\":\"V1\",\"year\":2020}\n{\"vin\":\"V2\",\"year\":null}\n";
+
+        List<ImportRow> rows = readAll(ndjson, ImportRecordReader.Format.NDJSON);
+
+        assertEquals(2, rows.size());
+        assertEquals("2020", rows.get(0).get("year"));
+        assertEquals("V2", rows.get(1).get("vin"));
+        assertNull(rows.get(1).get("year"));
+    }
+}
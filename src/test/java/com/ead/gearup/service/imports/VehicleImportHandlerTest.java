@@ -0,0 +1,53 @@
+package com.ead.gearup.service.imports;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.ead.gearup.enums.UserRole;
+import com.ead.gearup.model.Customer;
+import com.ead.gearup.model.User;
+import com.ead.gearup.repository.CustomerRepository;
+import com.ead.gearup.repository.VehicleRepository;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class VehicleImportHandlerTest {
+
+    @Autowired
+    private VehicleImportHandler handler;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private VehicleRepository vehicleRepository;
+
+    @Test
+    void testOwnerEmailIsMatchedWhateverItsCase() {
+        String suffix = String.valueOf(System.nanoTime() % 1_000_000_000L);
+        User user = User.builder().email("owner-" + suffix + "@example.com").name("Jane").password("secret")
+                .role(UserRole.CUSTOMER).build();
+        Customer owner = customerRepository.save(Customer.builder().user(user).phoneNumber("0771234567").build());
+
+        ChunkResult result = handler.importChunk(List.of(new ImportRow(1, Map.of(
+                "vin", "VINIM" + suffix,
+                "licenseplate", "IM-" + suffix,
+                "make", "Toyota",
+                "model", "Axio",
+                "customeremail", " Owner-" + suffix + "@Example.com"))));
+
+        assertTrue(result.getFailed().isEmpty());
+        assertEquals(1, result.getImported());
+        assertEquals(owner.getCustomerId(),
+                vehicleRepository.findAll().stream()
+                        .filter(vehicle -> vehicle.getVin().equals("VINIM" + suffix))
+                        .findFirst().get().getCustomer().getCustomerId());
+    }
+}
@@ -0,0 +1,163 @@
+package com.ead.gearup.service.notification;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.lang.reflect.Type;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import com.ead.gearup.dto.appointment.AppointmentUpdateDTO;
+import com.ead.gearup.enums.AppointmentStatus;
+import com.ead.gearup.enums.TaskStatus;
+import com.ead.gearup.enums.UserRole;
+import com.ead.gearup.model.Appointment;
+import com.ead.gearup.model.Customer;
+import com.ead.gearup.model.Task;
+import com.ead.gearup.model.User;
+import com.ead.gearup.model.UserPrinciple;
+import com.ead.gearup.model.Vehicle;
+import com.ead.gearup.repository.AppointmentRepository;
+import com.ead.gearup.repository.CustomerRepository;
+import com.ead.gearup.repository.TaskRepository;
+import com.ead.gearup.repository.VehicleRepository;
+import com.ead.gearup.service.AppointmentService;
+import com.ead.gearup.service.TaskService;
+import com.ead.gearup.service.auth.JwtService;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:pushdb;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE;NON_KEYWORDS=YEAR",
+        "app.mail.outbox.enabled=false"
+})
+@ActiveProfiles("test")
+class StatusPushServiceTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private VehicleRepository vehicleRepository;
+
+    @Autowired
+    private AppointmentRepository appointmentRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private AppointmentService appointmentService;
+
+    @Autowired
+    private TaskService taskService;
+
+    private WebSocketStompClient stompClient;
+    private Customer customer;
+    private Appointment appointment;
+
+    @BeforeEach
+    void setUp() {
+        stompClient = new WebSocketStompClient(new StandardWebSocketClient());
+        stompClient.setMessageConverter(new MappingJackson2MessageConverter());
+
+        String suffix = String.valueOf(System.nanoTime() % 1_000_000_000L);
+        User user = User.builder().email("push-" + suffix + "@example.com").name("John").password("secret")
+                .role(UserRole.CUSTOMER).isVerified(true).build();
+        customer = customerRepository.save(Customer.builder().user(user).phoneNumber("0771234567").build());
+        Vehicle vehicle = vehicleRepository.save(Vehicle.builder().vin("VINPUSH" + suffix)
+                .licensePlate("PUSH-" + suffix).make("Toyota").model("Axio").year(2018).customer(customer).build());
+        appointment = appointmentRepository.save(Appointment.builder().customer(customer).vehicle(vehicle)
+                .date(LocalDate.now().plusDays(3)).build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        stompClient.stop();
+    }
+
+    private StompSession connect(String token) throws Exception {
+        StompHeaders connectHeaders = new StompHeaders();
+        if (token != null) {
+            connectHeaders.add("Authorization", "Bearer " + token);
+        }
+        return stompClient.connectAsync("ws://localhost:" + port + "/ws", new WebSocketHttpHeaders(), connectHeaders,
+                new StompSessionHandlerAdapter() {
+                }).get(5, TimeUnit.SECONDS);
+    }
+
+    private String accessToken(User user) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put("user_id", user.getUserId());
+        return jwtService.generateAccessToken(new UserPrinciple(user), claims);
+    }
+
+    @Test
+    void testAppointmentAndTaskStatusChangesArePushedToTheCustomer() throws Exception {
+        BlockingQueue<Map<String, Object>> received = new LinkedBlockingQueue<>();
+        StompSession session = connect(accessToken(customer.getUser()));
+        session.subscribe("/user/queue/status", new StompFrameHandler() {
+            @Override
+            public Type getPayloadType(StompHeaders headers) {
+                return Map.class;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public void handleFrame(StompHeaders headers, Object payload) {
+                received.add((Map<String, Object>) payload);
+            }
+        });
+        // SUBSCRIBE is asynchronous; a receipt-less wait until the broker has registered it
+        Thread.sleep(500);
+
+        AppointmentUpdateDTO update = new AppointmentUpdateDTO();
+        update.setStatus(AppointmentStatus.CONFIRMED);
+        appointmentService.updateAppointment(appointment.getAppointmentId(), update);
+
+        Map<String, Object> appointmentPush = received.poll(5, TimeUnit.SECONDS);
+        assertNotNull(appointmentPush);
+        assertEquals("APPOINTMENT", appointmentPush.get("type"));
+        assertEquals("CONFIRMED", appointmentPush.get("status"));
+        assertEquals("PENDING", appointmentPush.get("previousStatus"));
+
+        Task task = taskRepository.save(Task.builder().name("Oil change").description("Full synthetic")
+                .estimatedHours(1).cost(5000.0).appointment(appointment).build());
+        taskService.updateTaskStatus(task.getTaskId(), TaskStatus.IN_PROGRESS);
+
+        Map<String, Object> taskPush = received.poll(5, TimeUnit.SECONDS);
+        assertNotNull(taskPush);
+        assertEquals("TASK", taskPush.get("type"));
+        assertEquals(task.getTaskId().intValue(), ((Number) taskPush.get("taskId")).intValue());
+        assertEquals("IN_PROGRESS", taskPush.get("status"));
+    }
+
+    @Test
+    void testConnectWithoutTokenIsRejected() {
+        assertThrows(ExecutionException.class, () -> connect(null));
+    }
+}
@@ -0,0 +1,151 @@
+package com.ead.gearup.service.scheduling;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.ead.gearup.dto.appointment.AppointmentUpdateDTO;
+import com.ead.gearup.enums.AppointmentStatus;
+import com.ead.gearup.enums.EmailType;
+import com.ead.gearup.enums.UserRole;
+import com.ead.gearup.model.Appointment;
+import com.ead.gearup.model.Customer;
+import com.ead.gearup.model.EmailOutbox;
+import com.ead.gearup.model.User;
+import com.ead.gearup.model.Vehicle;
+import com.ead.gearup.repository.AppointmentRepository;
+import com.ead.gearup.repository.CustomerRepository;
+import com.ead.gearup.repository.EmailOutboxRepository;
+import com.ead.gearup.repository.SchedulerLeaseRepository;
+import com.ead.gearup.repository.VehicleRepository;
+import com.ead.gearup.service.AppointmentService;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:reminderdb;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE;NON_KEYWORDS=YEAR",
+        "app.mail.outbox.enabled=false",
+        "app.reminders.enabled=true",
+        "app.reminders.initial-delay=3600000",
+        "app.reminders.batch-size=2"
+})
+@ActiveProfiles("test")
+class AppointmentReminderSchedulerTest {
+
+    @Autowired
+    private AppointmentReminderScheduler scheduler;
+
+    @Autowired
+    private SchedulerLeaseService schedulerLeaseService;
+
+    @Autowired
+    private SchedulerLeaseRepository schedulerLeaseRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private VehicleRepository vehicleRepository;
+
+    @Autowired
+    private AppointmentRepository appointmentRepository;
+
+    @Autowired
+    private EmailOutboxRepository emailOutboxRepository;
+
+    @Autowired
+    private AppointmentService appointmentService;
+
+    @Test
+    void testRemindersAreQueuedOnceForAppointmentsInTheWindow() {
+        LocalDateTime now = LocalDateTime.of(2031, 3, 10, 12, 0);
+        User user = User.builder().email("reminder@example.com").name("John").password("secret")
+                .role(UserRole.CUSTOMER).build();
+        Customer customer = customerRepository.save(Customer.builder().user(user).phoneNumber("0771234567").build());
+        Vehicle vehicle = vehicleRepository.save(Vehicle.builder().vin("VINREMINDER1").licensePlate("CAB-1234")
+                .make("Toyota").model("Axio").year(2018).customer(customer).build());
+
+        List<Appointment> due = List.of(
+                appointment(customer, vehicle, now.toLocalDate(), "15:00", AppointmentStatus.PENDING),
+                appointment(customer, vehicle, now.toLocalDate().plusDays(1), "09:00", AppointmentStatus.CONFIRMED),
+                appointment(customer, vehicle, now.toLocalDate().plusDays(1), "11:30", AppointmentStatus.PENDING));
+        // Already started, past the lead time, or canceled
+        appointment(customer, vehicle, now.toLocalDate(), "10:00", AppointmentStatus.PENDING);
+        appointment(customer, vehicle, now.toLocalDate().plusDays(1), "12:30", AppointmentStatus.PENDING);
+        appointment(customer, vehicle, now.toLocalDate().plusDays(1), "08:00", AppointmentStatus.CANCELED);
+
+        assertEquals(3, scheduler.queueDueReminders(now));
+        assertEquals(0, scheduler.queueDueReminders(now));
+
+        List<EmailOutbox> queued = emailOutboxRepository.findAll().stream()
+                .filter(email -> email.getType() == EmailType.APPOINTMENT_REMINDER)
+                .toList();
+        assertEquals(3, queued.size());
+        assertTrue(queued.get(0).getPayload().contains("CAB-1234 (Axio)"));
+        due.forEach(appointment -> assertNotNull(
+                appointmentRepository.findById(appointment.getAppointmentId()).get().getReminderSentAt()));
+    }
+
+    @Test
+    void testRescheduledAppointmentIsRemindedAgain() {
+        LocalDateTime now = LocalDateTime.of(2031, 5, 12, 12, 0);
+        User user = User.builder().email("rescheduled@example.com").name("John").password("secret")
+                .role(UserRole.CUSTOMER).build();
+        Customer customer = customerRepository.save(Customer.builder().user(user).phoneNumber("0771234567").build());
+        Vehicle vehicle = vehicleRepository.save(Vehicle.builder().vin("VINREMINDER2").licensePlate("CAB-5678")
+                .make("Toyota").model("Axio").year(2018).customer(customer).build());
+        Long appointmentId = appointment(customer, vehicle, now.toLocalDate().plusDays(1), "09:00",
+                AppointmentStatus.PENDING).getAppointmentId();
+        assertEquals(1, scheduler.queueDueReminders(now));
+
+        AppointmentUpdateDTO notes = new AppointmentUpdateDTO();
+        notes.setNotes("Bring the spare key");
+        appointmentService.updateAppointment(appointmentId, notes);
+        assertNotNull(appointmentRepository.findById(appointmentId).get().getReminderSentAt());
+
+        AppointmentUpdateDTO moved = new AppointmentUpdateDTO();
+        moved.setStartTime(LocalTime.parse("10:00"));
+        moved.setEndTime(LocalTime.parse("11:00"));
+        appointmentService.updateAppointment(appointmentId, moved);
+        assertNull(appointmentRepository.findById(appointmentId).get().getReminderSentAt());
+        assertEquals(1, scheduler.queueDueReminders(now));
+
+        // Keep the outbox to what the other test queues
+        emailOutboxRepository.deleteAll(emailOutboxRepository.findAll().stream()
+                .filter(email -> email.getRecipient().equals(user.getEmail()))
+                .toList());
+    }
+
+    @Test
+    void testOnlyOneNodeHoldsTheLease() {
+        SchedulerLeaseService otherNode = new SchedulerLeaseService(schedulerLeaseRepository, transactionManager);
+        Duration ttl = Duration.ofMinutes(5);
+
+        assertTrue(schedulerLeaseService.tryAcquire("lease-test", ttl));
+        assertFalse(otherNode.tryAcquire("lease-test", ttl));
+        // The leader renews its own lease
+        assertTrue(schedulerLeaseService.tryAcquire("lease-test", ttl));
+
+        schedulerLeaseService.release("lease-test");
+        assertTrue(otherNode.tryAcquire("lease-test", ttl));
+        assertFalse(schedulerLeaseService.tryAcquire("lease-test", ttl));
+    }
+
+    private Appointment appointment(Customer customer, Vehicle vehicle, LocalDate date, String start,
+            AppointmentStatus status) {
+        LocalTime startTime = LocalTime.parse(start);
+        return appointmentRepository.save(Appointment.builder().customer(customer).vehicle(vehicle).date(date)
+                .startTime(startTime).endTime(startTime.plusHours(1)).status(status).build());
+    }
+}
@@ -0,0 +1,152 @@
+package com.ead.gearup.service.scheduling;
+
+import static org.mockito.Mockito.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.ead.gearup.enums.AppointmentStatus;
+import com.ead.gearup.exception.AppointmentConflictException;
+import com.ead.gearup.repository.AppointmentRepository;
+
+@ExtendWith(MockitoExtension.class)
+class AppointmentSlotIndexUnitTest {
+
+    private static final LocalDate DAY = LocalDate.of(2030, 1, 7);
+
+    @Mock
+    private AppointmentRepository appointmentRepository;
+
+    private AppointmentSlotIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new AppointmentSlotIndex(appointmentRepository);
+        ReflectionTestUtils.setField(index, "workdayStartValue", "08:00");
+        ReflectionTestUtils.setField(index, "workdayEndValue", "18:00");
+        index.init();
+    }
+
+    private static BookedSlot slot(long id, long employeeId, String start, String end) {
+        return new BookedSlot(id, employeeId, DAY, LocalTime.parse(start), LocalTime.parse(end));
+    }
+
+    @Test
+    void testOverlapDetection() {
+        index.book(slot(1, 10, "09:00", "10:00"));
+        index.book(slot(2, 10, "11:00", "12:00"));
+
+        assertFalse(index.isAvailable(10L, DAY, LocalTime.parse("09:30"), LocalTime.parse("10:30"), null));
+        assertFalse(index.isAvailable(10L, DAY, LocalTime.parse("08:00"), LocalTime.parse("13:00"), null));
+        // Back-to-back bookings are allowed, other mechanics are independent
+        assertTrue(index.isAvailable(10L, DAY, LocalTime.parse("10:00"), LocalTime.parse("11:00"), null));
+        assertTrue(index.isAvailable(11L, DAY, LocalTime.parse("09:00"), LocalTime.parse("10:00"), null));
+        // An appointment never conflicts with itself
+        assertTrue(index.isAvailable(10L, DAY, LocalTime.parse("09:15"), LocalTime.parse("09:45"), 1L));
+    }
+
+    @Test
+    void testLongLegacyBookingIsFoundBehindShorterOnes() {
+        when(appointmentRepository.findBookedSlotsFrom(DAY, AppointmentStatus.CANCELED)).thenReturn(List.of(
+                slot(1, 10, "08:00", "12:00"),
+                slot(2, 10, "09:00", "09:30")));
+        index.reload(DAY);
+
+        List<BookedSlot> conflicts = index.findConflicts(10L, DAY, LocalTime.parse("10:30"),
+                LocalTime.parse("11:00"), null);
+
+        assertEquals(1, conflicts.size());
+        assertEquals(1L, conflicts.get(0).appointmentId());
+    }
+
+    @Test
+    void testDoubleBookingRejectedAfterDatabaseRecheck() {
+        index.book(slot(1, 10, "09:00", "10:00"));
+        when(appointmentRepository.findBookedSlotsByIds(List.of(1L), AppointmentStatus.CANCELED))
+                .thenReturn(List.of(slot(1, 10, "09:00", "10:00")));
+
+        assertThrows(AppointmentConflictException.class, () -> index.book(slot(2, 10, "09:30", "10:30")));
+    }
+
+    @Test
+    void testStaleBookingIsDroppedOnRecheck() {
+        index.book(slot(1, 10, "09:00", "10:00"));
+        when(appointmentRepository.findBookedSlotsByIds(List.of(1L), AppointmentStatus.CANCELED))
+                .thenReturn(List.of());
+
+        index.book(slot(2, 10, "09:30", "10:30"));
+
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    void testMovingAndRestoringABooking() {
+        index.book(slot(1, 10, "09:00", "10:00"));
+
+        BookedSlot previous = index.book(slot(1, 10, "14:00", "15:00"));
+        assertTrue(index.isAvailable(10L, DAY, LocalTime.parse("09:00"), LocalTime.parse("10:00"), null));
+
+        index.restore(1L, previous);
+        assertFalse(index.isAvailable(10L, DAY, LocalTime.parse("09:00"), LocalTime.parse("10:00"), null));
+        assertTrue(index.isAvailable(10L, DAY, LocalTime.parse("14:00"), LocalTime.parse("15:00"), null));
+    }
+
+    @Test
+    void testFindNextFreeSlot() {
+        index.book(slot(1, 10, "08:00", "09:00"));
+        index.book(slot(2, 10, "09:30", "12:00"));
+
+        Optional<TimeSlot> shortSlot = index.findNextFreeSlot(10L, DAY, null, Duration.ofMinutes(30), 1);
+        Optional<TimeSlot> longSlot = index.findNextFreeSlot(10L, DAY, null, Duration.ofMinutes(60), 1);
+
+        assertEquals(new TimeSlot(DAY, LocalTime.parse("09:00"), LocalTime.parse("09:30")), shortSlot.get());
+        assertEquals(new TimeSlot(DAY, LocalTime.parse("12:00"), LocalTime.parse("13:00")), longSlot.get());
+    }
+
+    @Test
+    void testFindNextFreeSlotRollsOverToNextDay() {
+        index.book(slot(1, 10, "08:00", "18:00"));
+
+        Optional<TimeSlot> next = index.findNextFreeSlot(10L, DAY, null, Duration.ofMinutes(60), 2);
+
+        assertEquals(new TimeSlot(DAY.plusDays(1), LocalTime.parse("08:00"), LocalTime.parse("09:00")), next.get());
+    }
+
+    @Test
+    void testFreeWindowsWithinWorkingHours() {
+        index.book(slot(1, 10, "08:00", "09:00"));
+        index.book(slot(2, 10, "09:20", "12:00"));
+        index.book(slot(3, 10, "16:00", "19:00"));
+
+        List<BookedSlot> bookings = index.getBookings(DAY, DAY).get(DAY).get(10L);
+        List<TimeSlot> windows = index.freeWindows(DAY, bookings, null, Duration.ofMinutes(30));
+
+        assertEquals(List.of(new TimeSlot(DAY, LocalTime.parse("12:00"), LocalTime.parse("16:00"))), windows);
+        assertEquals(List.of(new TimeSlot(DAY, LocalTime.parse("08:00"), LocalTime.parse("18:00"))),
+                index.freeWindows(DAY, List.of(), null, Duration.ofMinutes(30)));
+    }
+
+    @Test
+    void testPastDaysArePurged() {
+        LocalDate today = LocalDate.now();
+        index.book(new BookedSlot(1L, 10L, today.minusDays(1), LocalTime.parse("09:00"), LocalTime.parse("10:00")));
+        index.book(new BookedSlot(2L, 10L, today, LocalTime.parse("09:00"), LocalTime.parse("10:00")));
+
+        index.purgePastDays();
+
+        assertEquals(1, index.size());
+        assertTrue(index.getBookings(10L, today.minusDays(1)).isEmpty());
+        assertEquals(1, index.getBookings(10L, today).size());
+    }
+}
@@ -0,0 +1,43 @@
+package com.ead.gearup.support;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.function.Supplier;
+
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import com.ead.gearup.util.SqlStatementStats;
+
+/**
+ * Assertions on the number of SQL statements a call or an endpoint executes,
+ * based on the datasource-proxy counters.
+ */
+public final class SqlQueryCount {
+
+    private SqlQueryCount() {
+    }
+
+    // Runs the action in its own counting scope on the current thread
+    public static <T> T assertAtMost(int maxStatements, Supplier<T> action) {
+        SqlStatementStats stats = SqlStatementStats.begin();
+        try {
+            T result = action.get();
+            assertTrue(stats.getCount() <= maxStatements,
+                    "Expected at most " + maxStatements + " SQL statements but got " + stats.getCount());
+            return result;
+        } finally {
+            SqlStatementStats.end();
+        }
+    }
+
+    // MockMvc matcher, reads the counts collected by SqlMetricsFilter for the request
+    public static ResultMatcher atMost(int maxStatements) {
+        return result -> {
+            SqlStatementStats stats = (SqlStatementStats) result.getRequest()
+                    .getAttribute(SqlStatementStats.REQUEST_ATTRIBUTE);
+            assertNotNull(stats, "SqlMetricsFilter did not run for this request");
+            assertTrue(stats.getCount() <= maxStatements,
+                    "Expected at most " + maxStatements + " SQL statements but got " + stats.getCount());
+        };
+    }
+}